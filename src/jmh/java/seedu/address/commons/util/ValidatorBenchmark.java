@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures validating a typical value of each field with the field's validator, against matching it with
+ * {@link String#matches(String)}, which compiles the regex on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"name", "phone", "email", "address", "company", "note", "tag"})
+    public String field;
+
+    private String value;
+    private String regex;
+    private Predicate<String> validator;
+
+    @Setup
+    public void setUp() {
+        switch (field) {
+        case "name":
+            use("Alex Yeoh", Name.VALIDATION_REGEX, Name::isValidName);
+            break;
+        case "phone":
+            use("87438807", Phone.VALIDATION_REGEX, Phone::isValidPhone);
+            break;
+        case "email":
+            use("alexyeoh@example.com", Email.VALIDATION_REGEX, Email::isValidEmail);
+            break;
+        case "address":
+            use("Blk 30 Geylang Street 29, #06-40", Address.VALIDATION_REGEX, Address::isValidAddress);
+            break;
+        case "company":
+            use("Tech Solutions Pte. Ltd.", Company.VALIDATION_REGEX, Company::isValidCompany);
+            break;
+        case "note":
+            use("Prefers to be contacted after 6pm", Note.VALIDATION_REGEX, Note::isValidNote);
+            break;
+        case "tag":
+            use("colleagues", Tag.VALIDATION_REGEX, Tag::isValidTagName);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    private void use(String value, String regex, Predicate<String> validator) {
+        this.value = value;
+        this.regex = regex;
+        this.validator = validator;
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return value.matches(regex);
+    }
+
+    @Benchmark
+    public boolean validator() {
+        return validator.test(value);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.SortKeys;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures sorting an address book with the comparator of each {@code SortCommand} key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortCommandBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"NAME", "PHONE", "EMAIL", "ADDRESS", "TAG", "PRIORITY"})
+    public SortKeys key;
+
+    private Person[] persons;
+    private Comparator<Person> comparator;
+    private UniquePersonList personList;
+
+    @Setup
+    public void setUp() {
+        persons = SampleDataGenerator.generatePersons(size, 42).toArray(new Person[0]);
+        comparator = SortCommand.comparatorFor(key);
+        personList = new UniquePersonList();
+        personList.setPersons(Arrays.asList(persons));
+        // Build the sorted indexes outside the measurement
+        personList.sort(comparator);
+        personList.sort(SortCommand.comparatorFor(SortKeys.PHONE));
+    }
+
+    /**
+     * Sorts a copy of the generated persons, which are in random order.
+     */
+    @Benchmark
+    public Person[] sort() {
+        Person[] copy = persons.clone();
+        Arrays.sort(copy, comparator);
+        return copy;
+    }
+
+    /**
+     * Sorts a person list by the key and then back into phone order, using the sorted indexes of the list.
+     */
+    @Benchmark
+    public UniquePersonList sortIndexed() {
+        personList.sort(comparator);
+        personList.sort(SortCommand.comparatorFor(SortKeys.PHONE));
+        return personList;
+    }
+}
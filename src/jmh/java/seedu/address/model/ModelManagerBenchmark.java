@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.history.UndoHistoryMode;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures recording a single-person edit in the undo/redo history.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SNAPSHOT", "DELTA"})
+    public UndoHistoryMode undoHistoryMode;
+
+    private ModelManager model;
+    private Person original;
+    private Person edited;
+    private boolean isEdited;
+
+    @Setup
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(undoHistoryMode);
+        model = new ModelManager(SampleDataGenerator.generateAddressBook(size, 42), userPrefs);
+
+        original = model.getAddressBook().getPersonList().get(size / 2);
+        edited = new Person(original.getName(), original.getPhone(), original.getEmail(), original.getAddress(),
+                original.getCompany(), original.getTags(), new Note("Edited by benchmark"), original.getPriority());
+        isEdited = false;
+    }
+
+    /**
+     * Edits a person in the middle of the address book, alternating between two versions of it, and commits.
+     */
+    @Benchmark
+    public void setPersonAndCommit() {
+        if (isEdited) {
+            model.setPerson(edited, original);
+        } else {
+            model.setPerson(original, edited);
+        }
+        isEdited = !isEdited;
+        model.commitAddressBook();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures testing every person of an address book against a {@code find} predicate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"yeoh", "serangoon gardens", "nobody"})
+    public String keywords;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = SampleDataGenerator.generatePersons(size, 42);
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList(keywords.split(" ")));
+    }
+
+    /**
+     * Tests every person against the predicate and returns the number of matches.
+     */
+    @Benchmark
+    public int testAll() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
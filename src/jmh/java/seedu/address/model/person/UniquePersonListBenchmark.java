@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures the single-person operations of {@code UniquePersonList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private UniquePersonList list;
+    private Person absent;
+    private Person middle;
+    private Person middleEquivalent;
+    private Person middleEdited;
+    private boolean isEdited;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = SampleDataGenerator.generatePersons(size + 1, 42);
+        absent = persons.remove(size);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+
+        middle = persons.get(size / 2);
+        middleEquivalent = new Person(middle.getName(), middle.getPhone(), middle.getEmail(), middle.getAddress(),
+                middle.getCompany(), middle.getTags(), middle.getNote(), middle.getPriority());
+        middleEdited = new Person(middle.getName(), middle.getPhone(), middle.getEmail(), middle.getAddress(),
+                middle.getCompany(), middle.getTags(), new Note("Edited by benchmark"), middle.getPriority());
+        isEdited = false;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(middleEquivalent);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    /**
+     * Adds a new person and removes it again, so the list keeps its size across invocations.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        list.add(absent);
+        list.remove(absent);
+    }
+
+    /**
+     * Replaces a person in the middle of the list, alternating between two versions of it.
+     */
+    @Benchmark
+    public void setPerson() {
+        if (isEdited) {
+            list.setPerson(middleEdited, middle);
+        } else {
+            list.setPerson(middle, middleEdited);
+        }
+        isEdited = !isEdited;
+    }
+}
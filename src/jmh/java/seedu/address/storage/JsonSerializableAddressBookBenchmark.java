@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures converting between an address book and its json form.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private JsonSerializableAddressBook serializableAddressBook;
+
+    @Setup
+    public void setUp() {
+        serializableAddressBook = new JsonSerializableAddressBook(SampleDataGenerator.generateAddressBook(size, 42));
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+    @Benchmark
+    public String toJsonString() throws JsonProcessingException {
+        return JsonUtil.toJsonString(serializableAddressBook);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.AddressBookStorageFactory;
+
+/**
+ * Writes an address book of generated persons to a file, e.g. for {@link LoadTestDriver}.
+ * The format of the file is given by its extension.
+ */
+public class GenerateAddressBook {
+
+    public static final String MESSAGE_USAGE = "Usage: GenerateAddressBook NUMBER_OF_PERSONS OUTPUT_FILE [SEED]\n"
+            + "Example: GenerateAddressBook 100000 data/addressbook-100k.json";
+    public static final long DEFAULT_SEED = 42;
+
+    /**
+     * Generates the number of persons in the first argument and writes them to the file in the second argument.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        int count;
+        long seed;
+        try {
+            count = Integer.parseInt(args[0]);
+            seed = args.length == 3 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        } catch (NumberFormatException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+        Path filePath = Paths.get(args[1]);
+
+        long start = System.nanoTime();
+        AddressBook addressBook = SampleDataGenerator.generateAddressBook(count, seed);
+        AddressBookStorageFactory.forFile(filePath).saveAddressBook(addressBook);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Wrote %d persons to %s in %d ms%n", count, filePath.toAbsolutePath(), elapsedMillis);
+    }
+
+}
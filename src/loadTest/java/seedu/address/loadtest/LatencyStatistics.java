@@ -0,0 +1,75 @@
+package seedu.address.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the latencies of executed commands, grouped by command word, and reports their percentiles.
+ */
+class LatencyStatistics {
+
+    private static final String ROW_FORMAT = "%-10s %8s %8s %10s %10s %10s %10s%n";
+
+    private final Map<String, Samples> samplesByCommandWord = new TreeMap<>();
+
+    /**
+     * Records that a command starting with {@code commandWord} took {@code nanos} to execute.
+     */
+    void record(String commandWord, long nanos, boolean isFailed) {
+        samplesByCommandWord.computeIfAbsent(commandWord, word -> new Samples()).add(nanos, isFailed);
+    }
+
+    /**
+     * Returns a table of the count, failures and latency percentiles in microseconds of each command word.
+     */
+    String toTable() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(ROW_FORMAT, "command", "count", "failed", "p50 us", "p90 us", "p99 us", "max us"));
+        samplesByCommandWord.forEach((word, samples) -> {
+            long[] sorted = samples.sorted();
+            sb.append(String.format(ROW_FORMAT, word, sorted.length, samples.failedCount,
+                    micros(percentile(sorted, 50)), micros(percentile(sorted, 90)), micros(percentile(sorted, 99)),
+                    micros(sorted[sorted.length - 1])));
+        });
+        return sb.toString();
+    }
+
+    /**
+     * Returns the nearest-rank {@code percent}-th percentile of the non-empty array {@code sorted}.
+     */
+    static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+
+    /**
+     * The latencies recorded for one command word.
+     */
+    private static class Samples {
+        private long[] nanos = new long[16];
+        private int size = 0;
+        private int failedCount = 0;
+
+        void add(long sample, boolean isFailed) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = sample;
+            if (isFailed) {
+                failedCount++;
+            }
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+package seedu.address.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.WeakInterner;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorageFactory;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a script of commands through {@link Logic#execute(String)} against a copy of an address book file, without
+ * starting the user interface, and reports the latency percentiles of each command word, the heap high-water mark,
+ * the heap retained by the loaded address book and the bytes written by storage.
+ *
+ * The script has one command per line. Blank lines and lines starting with {@code #} are ignored, and every
+ * {@code {n}} in a command is replaced by the number of commands run so far, so that repeated {@code add} commands
+ * can create distinct persons.
+ *
+ * With {@code --no-interning}, the values that are normally shared between persons on load are created anew for
+ * every person instead, so that comparing the heap retained after load with and without it shows what sharing saves.
+ */
+public class LoadTestDriver {
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTestDriver DATA_FILE SCRIPT_FILE [REPETITIONS]"
+            + " [--journaled] [--no-interning]\n"
+            + "SCRIPT_FILE may also name a script on the classpath, e.g. commands.txt.";
+    public static final String COUNTER_PLACEHOLDER = "{n}";
+
+    private final Logic logic;
+    private final MeasuringAddressBookStorage addressBookStorage;
+    private final LatencyStatistics statistics = new LatencyStatistics();
+    private long commandCount = 0;
+
+    private LoadTestDriver(Logic logic, MeasuringAddressBookStorage addressBookStorage) {
+        this.logic = logic;
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Runs the load test described by {@code args}; see {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        boolean isJournaled = arguments.remove("--journaled");
+        if (arguments.remove("--no-interning")) {
+            // Must be set before any pool is created, i.e. before anything is loaded
+            System.setProperty(WeakInterner.DISABLED_PROPERTY, "true");
+        }
+        if (arguments.size() < 2 || arguments.size() > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+        int repetitions = arguments.size() == 3 ? Integer.parseInt(arguments.get(2)) : 1;
+
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        // Work on a copy so that the input file can be reused
+        Path dataFile = Paths.get(arguments.get(0));
+        Path workDirectory = Files.createTempDirectory("loadtest");
+        Path workFile = workDirectory.resolve(dataFile.getFileName());
+        Files.copy(dataFile, workFile);
+        List<String> script = readScript(arguments.get(1));
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(workFile);
+        userPrefs.setJournaledAddressBookFile(isJournaled);
+        MeasuringAddressBookStorage addressBookStorage =
+                new MeasuringAddressBookStorage(AddressBookStorageFactory.create(userPrefs));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(workDirectory.resolve("preferences.json")));
+
+        resetHeapPeaks();
+        long loadStart = System.nanoTime();
+        ReadOnlyAddressBook initialData = storage.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new IOException("Address book file " + dataFile + " does not exist")));
+        ModelManager model = new ModelManager(initialData, userPrefs);
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+        System.out.printf("Loaded %d persons from %s in %d ms, heap high-water mark %d MB%n",
+                model.getAddressBook().getPersonList().size(), dataFile, loadMillis, heapPeakBytes() >> 20);
+        System.out.printf("Heap retained after load: %d MB%n", retainedHeapBytes() >> 20);
+
+        LoadTestDriver driver = new LoadTestDriver(new LogicManager(model, storage), addressBookStorage);
+        resetHeapPeaks();
+        long replayStart = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            driver.replay(script);
+        }
+        long replayMillis = (System.nanoTime() - replayStart) / 1_000_000;
+
+        System.out.printf("Ran %d commands in %d ms%n", driver.commandCount, replayMillis);
+        System.out.print(driver.statistics.toTable());
+        System.out.printf("Heap high-water mark during replay: %d MB%n", heapPeakBytes() >> 20);
+        System.out.printf("Storage wrote %d bytes in %d saves%n", addressBookStorage.getBytesWritten(),
+                addressBookStorage.getSaveCount());
+    }
+
+    private void replay(List<String> script) {
+        for (String line : script) {
+            String commandText = line.replace(COUNTER_PLACEHOLDER, Long.toString(commandCount));
+            String commandWord = commandText.split("\\s+", 2)[0];
+
+            boolean isFailed = false;
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isFailed = true;
+            }
+            statistics.record(commandWord, System.nanoTime() - start, isFailed);
+            commandCount++;
+        }
+    }
+
+    /**
+     * Returns the commands in the script at {@code location}, a file path or the name of a classpath resource.
+     */
+    private static List<String> readScript(String location) throws IOException {
+        String content;
+        Path filePath = Paths.get(location);
+        if (Files.exists(filePath)) {
+            content = Files.readString(filePath, StandardCharsets.UTF_8);
+        } else {
+            try (InputStream in = LoadTestDriver.class.getResourceAsStream("/" + location)) {
+                if (in == null) {
+                    throw new IOException("Script " + location + " not found");
+                }
+                content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        List<String> commands = new ArrayList<>();
+        for (String line : content.split("\\R")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                commands.add(trimmed);
+            }
+        }
+        return commands;
+    }
+
+    private static void resetHeapPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of the peak usage of every heap memory pool since the peaks were last reset.
+     */
+    private static long heapPeakBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * Returns the heap in use after a full garbage collection, which is roughly the heap retained by live objects.
+     */
+    private static long retainedHeapBytes() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+}
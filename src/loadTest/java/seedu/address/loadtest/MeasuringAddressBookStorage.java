@@ -0,0 +1,77 @@
+package seedu.address.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+
+/**
+ * An {@code AddressBookStorage} that counts the saves made through it and the bytes they wrote.
+ */
+class MeasuringAddressBookStorage implements AddressBookStorage {
+
+    private final AddressBookStorage storage;
+    private long saveCount = 0;
+    private long bytesWritten = 0;
+
+    MeasuringAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    long getSaveCount() {
+        return saveCount;
+    }
+
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} and adds the bytes written to the total. A save that appended to a journal wrote
+     * the journal's growth; any other save rewrote the whole data file.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        long journalSizeBefore = sizeOf(journalFilePath);
+
+        storage.saveAddressBook(addressBook, filePath);
+        saveCount++;
+
+        long journalGrowth = sizeOf(journalFilePath) - journalSizeBefore;
+        bytesWritten += journalGrowth > 0 ? journalGrowth : sizeOf(filePath);
+    }
+
+    private static long sizeOf(Path filePath) throws IOException {
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+}
@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +38,54 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the {@code k} smallest of {@code items} in the order of {@code comparator}, smallest first, or all of
+     * them if there are fewer. Items that the comparator considers equal keep their order in {@code items}.
+     *
+     * Only the best {@code k} items seen so far are kept, in a heap with the worst of them at its head, so this takes
+     * O(N log k) time and O(k) space for N items instead of sorting all of them.
+     */
+    public static <T> List<T> smallest(Iterable<? extends T> items, int k, Comparator<? super T> comparator) {
+        requireAllNonNull(items, comparator);
+        checkArgument(k >= 0, "k must not be negative");
+        if (k == 0) {
+            return List.of();
+        }
+
+        // Among equal items the later one is larger, so that an item never displaces an equal earlier one
+        Comparator<Ranked<T>> order = Comparator.<Ranked<T>, T>comparing(ranked -> ranked.item, comparator)
+                .thenComparingInt(ranked -> ranked.position);
+        PriorityQueue<Ranked<T>> heap = new PriorityQueue<>(order.reversed());
+        int position = 0;
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(new Ranked<>(item, position));
+            } else if (comparator.compare(item, heap.peek().item) < 0) {
+                heap.poll();
+                heap.add(new Ranked<>(item, position));
+            }
+            position++;
+        }
+
+        List<T> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().item);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * An item and its position among the items it was taken from.
+     */
+    private static class Ranked<T> {
+        private final T item;
+        private final int position;
+
+        Ranked(T item, int position) {
+            this.item = item;
+            this.position = position;
+        }
+    }
 }
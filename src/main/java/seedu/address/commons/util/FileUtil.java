@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +86,62 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends {@code content} to {@code file} and syncs it to disk before returning.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void appendDurably(Path file, byte[] content) throws IOException {
+        createParentDirsOfFile(file);
+        try (FileOutputStream fileStream = new FileOutputStream(file.toFile(), true)) {
+            fileStream.write(content);
+            fileStream.getFD().sync();
+        }
+    }
+
+    /**
+     * Writes to {@code file} without ever leaving it partially written.
+     * The content produced by {@code writer} goes to a temporary file in the same directory, which is synced to disk
+     * and then moved over {@code file}. If anything fails, {@code file} is left untouched.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileOutputStream fileStream = new FileOutputStream(tempFile.toFile())) {
+                BufferedOutputStream bufferedStream = new BufferedOutputStream(fileStream, BUFFER_SIZE);
+                writer.writeTo(bufferedStream);
+                bufferedStream.flush();
+                fileStream.getFD().sync();
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. Implementations should not close {@code out}.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +96,37 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON content of {@code filePath} incrementally.
+     * Values read through the parser, e.g. with {@link JsonParser#readValueAs(Class)}, are bound with the same
+     * settings as {@link #readJsonFile(Path, Class)}. The caller is responsible for closing the parser.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Returns a generator that writes JSON content to {@code out} incrementally.
+     * Values written through the generator, e.g. with {@link JsonGenerator#writeObject(Object)}, are serialized with
+     * the same settings as {@link #saveJsonFile(Object, Path)}. Closing the generator does not close {@code out}.
+     *
+     * @param out cannot be null.
+     * @param isPretty whether the output is indented and split over multiple lines.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPretty) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (isPretty) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +146,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without indentation or line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Tests whether a string is a valid value of some kind.
+ *
+ * Simple patterns made of character classes are checked by scanners that look at each character once and allocate
+ * nothing, and other patterns by a {@code Pattern} compiled once, instead of compiling a regex on every call as
+ * {@link String#matches(String)} does. The character classes below match exactly what the regex classes of the same
+ * name match in a pattern compiled without flags.
+ */
+@FunctionalInterface
+public interface Validator {
+
+    /** {@code \d}: an ASCII digit. */
+    IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+
+    /** {@code \p{Alnum}}: an ASCII letter or digit. */
+    IntPredicate ALNUM = c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+
+    /** {@code \s}: a space, tab, line feed, vertical tab, form feed or carriage return. */
+    IntPredicate WHITESPACE = c -> c == ' ' || (c >= '\t' && c <= '\r');
+
+    /** Any character but a line terminator, which is what {@code .} matches. */
+    IntPredicate NOT_LINE_TERMINATOR = c -> c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028'
+            && c != '\u2029';
+
+    /**
+     * Returns true if {@code test} is valid.
+     */
+    boolean isValid(String test);
+
+    /**
+     * Returns a validator matching {@code regex} as a whole, like {@code test.matches(regex)}.
+     */
+    static Validator ofRegex(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        return test -> pattern.matcher(test).matches();
+    }
+
+    /**
+     * Returns a validator of strings of at least {@code minLength} characters, each in {@code characterClass},
+     * like the regex {@code [characterClass]{minLength,}}.
+     */
+    static Validator repeated(IntPredicate characterClass, int minLength) {
+        requireNonNull(characterClass);
+        checkArgument(minLength >= 0);
+        return test -> test.length() >= minLength && allMatch(test, 0, characterClass);
+    }
+
+    /**
+     * Returns a validator of strings whose first character is in {@code first} and whose other characters are in
+     * {@code rest}, like the regex {@code [first][rest]*}.
+     */
+    static Validator firstThen(IntPredicate first, IntPredicate rest) {
+        requireNonNull(first);
+        requireNonNull(rest);
+        return test -> !test.isEmpty() && first.test(test.charAt(0)) && allMatch(test, 1, rest);
+    }
+
+    /**
+     * Returns a character class of the characters in {@code characters}.
+     */
+    static IntPredicate anyOf(String characters) {
+        requireNonNull(characters);
+        return c -> characters.indexOf(c) >= 0;
+    }
+
+    private static boolean allMatch(String test, int from, IntPredicate characterClass) {
+        for (int i = from; i < test.length(); i++) {
+            if (!characterClass.test(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Interns immutable values made from strings, so that equal strings share one value while anything refers to it.
+ *
+ * The pool refers to its values only weakly, keyed by the string each value holds, so a value is dropped from the
+ * pool once nothing else refers to it and the pool never grows beyond the distinct values in use. Looking up an
+ * existing value does not create one. Interning is thread-safe, and the pool is split into segments locked
+ * separately, so that threads interning different strings rarely wait for each other.
+ *
+ * Setting the system property {@value #DISABLED_PROPERTY} to {@code true} turns pooling off for the pools created
+ * afterwards, which then create a new value on every call, so that the heap saved by pooling can be measured.
+ *
+ * @param <T> the type of the interned values.
+ */
+public class WeakInterner<T> {
+
+    /** The system property that turns pooling off when set to {@code true}. */
+    public static final String DISABLED_PROPERTY = "addressbook.interning.disabled";
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<T>[] segments;
+    private final Function<String, T> factory;
+    private final Function<T, String> keyOf;
+    private final boolean isEnabled = !Boolean.getBoolean(DISABLED_PROPERTY);
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param factory creates the value for a string that has no value in the pool yet.
+     * @param keyOf returns the string a value was created from. It must return the very instance the value holds,
+     *     so that the pool entry lives exactly as long as the value.
+     */
+    @SuppressWarnings("unchecked")
+    public WeakInterner(Function<String, T> factory, Function<T, String> keyOf) {
+        requireAllNonNull(factory, keyOf);
+        this.factory = factory;
+        this.keyOf = keyOf;
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Returns the pooled value for {@code string}, creating and pooling it if there is none.
+     * Any exception thrown by the factory is passed on and nothing is pooled.
+     */
+    public T intern(String string) {
+        if (!isEnabled) {
+            return factory.apply(string);
+        }
+        int hash = string.hashCode();
+        Segment<T> segment = segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            WeakReference<T> reference = segment.pool.get(string);
+            T value = reference == null ? null : reference.get();
+            if (value == null) {
+                value = factory.apply(string);
+                segment.pool.put(keyOf.apply(value), new WeakReference<>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool, which may still count values that are no longer referred to.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.pool.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The values whose strings hash to one segment.
+     */
+    private static class Segment<T> {
+        private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +26,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses every command in {@code commandTexts}, then executes them as one batch: they are undone together, the
+     * address book is saved once, and if any of them fails, none of them takes effect.
+     * Blank lines and lines starting with {@code #} are ignored.
+     *
+     * @return the result of the batch.
+     * @throws CommandException If a command fails or the address book cannot be saved.
+     * @throws ParseException If any command cannot be parsed, in which case none is executed.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +44,26 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the AddressBook when it was last saved to storage.
+     *
+     * @see seedu.address.model.Model#getAddressBookVersion()
+     */
+    long getLastSavedAddressBookVersion();
+
+    /**
+     * Returns true if the AddressBook has changes that have not been saved to storage,
+     * e.g. because the last save failed.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Sets the handler told whenever storage reports the outcome of a save, which may be after the command that
+     * requested it has returned. The handler is given the error message for the user if the save failed, or an
+     * empty {@code Optional} if it succeeded; {@link #hasUnsavedChanges()} already reflects the outcome.
+     */
+    void setSaveResultHandler(Consumer<Optional<String>> handler);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -1,21 +1,30 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveListener;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,35 +41,113 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+    // The latest version storage reported as written
+    private volatile long lastSavedVersion;
+    // The latest version handed to storage, unless its save failed
+    private volatile long requestedVersion;
+    private volatile Consumer<Optional<String>> saveResultHandler = errorMessage -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that records the cost of
+     * every successful command in {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandMetrics = commandMetrics;
+        addressBookParser = new AddressBookParser(commandMetrics);
+        // The address book starts out as it was read from storage
+        lastSavedVersion = model.getAddressBookVersion();
+        requestedVersion = lastSavedVersion;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        long allocatedBefore = commandMetrics.getCurrentThreadAllocatedBytes();
+        long parseStart = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        return executeParsed(command, commandText.trim().split("\\s+", 2)[0], allocatedBefore, parseStart);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " lines]");
+
+        long allocatedBefore = commandMetrics.getCurrentThreadAllocatedBytes();
+        long parseStart = System.nanoTime();
+        Command command = addressBookParser.parseBatch(commandTexts);
+        return executeParsed(command, BatchCommand.COMMAND_WORD, allocatedBefore, parseStart);
+    }
+
+    /**
+     * Executes {@code command}, saves the address book if it changed and records the cost under {@code commandWord}.
+     */
+    private CommandResult executeParsed(Command command, String commandWord, long allocatedBefore, long parseStart)
+            throws CommandException {
+        long executeStart = System.nanoTime();
+        CommandResult commandResult = command.execute(model);
+        long executeEnd = System.nanoTime();
+
+        long version = model.getAddressBookVersion();
+        if (version == requestedVersion) {
+            logger.fine("Address book unchanged since the last save, skipping save");
+        } else {
+            try {
+                requestedVersion = version;
+                storage.saveAddressBook(model.getAddressBook(), version, new SaveReporter(commandWord));
+            } catch (IOException ioe) {
+                requestedVersion = lastSavedVersion;
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
         }
 
+        long allocatedBytes = allocatedBefore < 0 ? -1
+                : commandMetrics.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        commandMetrics.record(commandWord, executeStart - parseStart,
+                executeEnd - executeStart, allocatedBytes, model.getFilteredPersonList().size());
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the metrics of the commands executed so far.
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public long getLastSavedAddressBookVersion() {
+        return lastSavedVersion;
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return model.getAddressBookVersion() != lastSavedVersion;
+    }
+
+    @Override
+    public void setSaveResultHandler(Consumer<Optional<String>> handler) {
+        requireNonNull(handler);
+        saveResultHandler = handler;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,4 +172,33 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Tracks the versions storage reports as written, records how long writing the save requested by a command took
+     * and passes each outcome on to the save result handler.
+     */
+    private class SaveReporter implements SaveListener {
+        private final String commandWord;
+
+        SaveReporter(String commandWord) {
+            this.commandWord = commandWord;
+        }
+
+        @Override
+        public void saved(long version, long writeNanos) {
+            commandMetrics.recordSave(commandWord, writeNanos);
+            lastSavedVersion = Math.max(lastSavedVersion, version);
+            saveResultHandler.accept(Optional.empty());
+        }
+
+        @Override
+        public void saveFailed(long version, IOException e) {
+            logger.warning("Could not save address book version " + version + ": " + StringUtil.getDetails(e));
+            if (requestedVersion == version) {
+                // Save again after the next command even if it changes nothing
+                requestedVersion = lastSavedVersion;
+            }
+            saveResultHandler.accept(Optional.of(getSaveErrorMessage(e)));
+        }
+    }
 }
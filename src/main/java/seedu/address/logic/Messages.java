@@ -16,8 +16,14 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INVALID_SORT_COMMAND_FORMAT = "Unknown sort key: %1$s. "
-            + "Use one of: name, phone, email, address, tag, priority.";
+            + "Use one of: name, phone, email, address, company, tag, priority.";
+    public static final String MESSAGE_DUPLICATE_SORT_KEY = "Sort key %1$s is given more than once.";
+    public static final String MESSAGE_INVALID_TOP_KEY = "Unknown ranking key: %1$s. "
+            + "Use one of: priority, noteLastEdited, name.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_INVALID_BATCH_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_ALLOWED_IN_BATCH = "Line %1$d: %2$s cannot be used in a batch.";
+    public static final String MESSAGE_UNREADABLE_BATCH_FILE = "Could not read batch file %1$s.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
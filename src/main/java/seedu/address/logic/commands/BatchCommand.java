@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs several commands as one transaction: either all of them take effect, as a single state that one undo
+ * reverts, or none of them does.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, as a "
+            + "single change that one undo reverts. If any command fails, none of them takes effect.\n"
+            + "Blank lines and lines starting with # are ignored. "
+            + "Undo, redo, exit and batch cannot be used in a batch.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " import.txt";
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands as one batch.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d failed, so no command in the batch took effect: "
+            + "%2$s";
+    public static final String MESSAGE_NO_COMMANDS = "The batch has no commands.";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a BatchCommand to run {@code commands} in order. {@code lineNumbers} holds the line each command was
+     * read from, for reporting failures.
+     */
+    public BatchCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireNonNull(commands);
+        requireNonNull(lineNumbers);
+        checkArgument(!commands.isEmpty(), MESSAGE_NO_COMMANDS);
+        checkArgument(commands.size() == lineNumbers.size(), "Every command must have a line number");
+        this.commands = List.copyOf(commands);
+        this.lineNumbers = List.copyOf(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    commands.get(i).execute(model);
+                } catch (CommandException e) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i),
+                            e.getMessage()), e);
+                }
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commands.equals(otherBatchCommand.commands)
+                && lineNumbers.equals(otherBatchCommand.lineNumbers);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .add("lineNumbers", lineNumbers)
+                .toString();
+    }
+}
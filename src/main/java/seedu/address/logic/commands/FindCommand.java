@@ -6,9 +6,10 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book who match a query.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -20,20 +21,35 @@ public class FindCommand extends Command {
             + "Matching behavior:\n"
             + "  - Searches across all fields (name, phone, email, address, company, tags).\n"
             + "  - Case-insensitive and partial (substring) matches are supported.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "  - A term can be limited to one field: n/, p/, e/, a/, c/ (partial), t/ (exact tag), pr/ (priority).\n"
+            + "  - All terms must match; keywords without a field need only one of them to match.\n"
+            + "  - Put OR between groups of terms to match any group, and - or NOT before a term to exclude it.\n"
+            + "Parameters: TERM [MORE_TERMS]... [OR TERM [MORE_TERMS]...]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie\n"
-            + "Example (partial/company/tag): " + COMMAND_WORD + " corp 9123 friend";
+            + "Example (partial/company/tag): " + COMMAND_WORD + " corp 9123 friend\n"
+            + "Example (fields): " + COMMAND_WORD + " n/alice c/acme t/vip pr/HIGH -t/inactive OR t/board";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonQuery query;
 
+    /**
+     * Creates a FindCommand to find persons with any of the keywords of {@code predicate} in any field.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(PersonQuery.anyOf(predicate.getKeywords()));
+    }
+
+    /**
+     * Creates a FindCommand to find persons matching {@code query}.
+     */
+    public FindCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.findPersons(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -50,13 +66,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
                 .toString();
     }
 }
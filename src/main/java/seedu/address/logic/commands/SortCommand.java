@@ -1,63 +1,140 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.SortCriterion;
 import seedu.address.logic.parser.SortKeys;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Sorts the contacts in the address book by name.
+ * Sorts the contacts in the address book by one or more keys.
  */
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
-    public static final String MESSAGE_USAGE = COMMAND_WORD;
-    public static final String MESSAGE_SUCCESS = "Sorted all persons by %1$s (ascending).";
-    private final SortKeys key;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons by one or more keys. Persons that "
+            + "are equal by every key keep their order.\n"
+            + "Parameters: [KEY [asc|desc] [nullsfirst|nullslast]]...\n"
+            + "KEY is one of name, phone, email, address, company, tag, priority. "
+            + "Ascending priority lists HIGH first. Persons without an email, address, company, tag or priority are "
+            + "listed last unless nullsfirst is given.\n"
+            + "Example: " + COMMAND_WORD + " priority desc name asc";
+    public static final String MESSAGE_SUCCESS = "Sorted all persons by %1$s.";
+    public static final String MESSAGE_NO_CRITERIA = "At least one sort key must be given.";
 
+    private static final Map<List<SortCriterion>, Comparator<Person>> COMPARATORS = new ConcurrentHashMap<>();
+
+    private final List<SortCriterion> criteria;
+
+    /**
+     * Creates a SortCommand to sort by {@code key} in ascending order.
+     */
     public SortCommand(SortKeys key) {
-        this.key = key;
+        this(List.of(SortCriterion.ascending(key)));
+    }
+
+    /**
+     * Creates a SortCommand to sort by the first of {@code criteria}, then by the next for persons that are equal by
+     * the first, and so on.
+     */
+    public SortCommand(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), MESSAGE_NO_CRITERIA);
+        this.criteria = List.copyOf(criteria);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Comparator<Person> cmp = comparatorFor(key);
-        model.sortPersonList(cmp);
+        model.sortPersonList(comparatorFor(criteria));
         model.commitAddressBook();
-        String message = String.format(MESSAGE_SUCCESS, key.getDisplayName());
-        return new CommandResult(message);
+        String description = criteria.stream()
+                .map(SortCriterion::getDescription)
+                .collect(Collectors.joining(", then "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, description));
     }
 
-    private Comparator<Person> comparatorFor(SortKeys f) {
-        switch (f) {
+    /**
+     * Returns the comparator for sorting by {@code key} in ascending order.
+     *
+     * @see #comparatorFor(List)
+     */
+    static Comparator<Person> comparatorFor(SortKeys key) {
+        return comparatorFor(List.of(SortCriterion.ascending(key)));
+    }
+
+    /**
+     * Returns the comparator for {@code criteria}. The same comparator is returned for equal criteria every time, so
+     * that the model can reuse the sorted index it keeps for it.
+     */
+    static Comparator<Person> comparatorFor(List<SortCriterion> criteria) {
+        return COMPARATORS.computeIfAbsent(List.copyOf(criteria), unused -> criteria.stream()
+                .map(SortCommand::createComparator)
+                .reduce(Comparator::thenComparing)
+                .orElseThrow());
+    }
+
+    private static Comparator<Person> createComparator(SortCriterion criterion) {
+        switch (criterion.getKey()) {
         case NAME:
-            return java.util.Comparator.comparing(p -> p.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+            return compareBy(Person::getNameKey, criterion);
         case PHONE:
-            return java.util.Comparator.comparing(p -> p.getPhone().value);
+            return compareBy(p -> p.getPhone().value, criterion);
         case EMAIL:
-            return java.util.Comparator.comparing(p -> p.getEmail().value, String.CASE_INSENSITIVE_ORDER);
+            return compareBy(Person::getEmailKey, criterion);
         case ADDRESS:
-            return java.util.Comparator.comparing(p -> p.getAddress().value, String.CASE_INSENSITIVE_ORDER);
+            return compareBy(Person::getAddressKey, criterion);
+        case COMPANY:
+            return compareBy(Person::getCompanyKey, criterion);
         case TAG:
-            return java.util.Comparator.comparing(p -> p.getTags().stream()
-                    .map(tag -> tag.tagName)
-                    .sorted(String.CASE_INSENSITIVE_ORDER)
-                    .findFirst().orElse(""));
+            return compareBy(Person::getMinimalTagKey, criterion);
         case PRIORITY:
-            return java.util.Comparator.comparing(p -> p.getPriority() != null
-                    ? p.getPriority().getLevel().getNumericValue()
-                    : Integer.MAX_VALUE);
+            return compareBy(p -> p.getPriority() != null ? p.getPriority().getLevel().getNumericValue() : null,
+                    criterion);
         default:
-            throw new IllegalArgumentException("Unsupported sort key: " + f);
+            throw new IllegalArgumentException("Unsupported sort key: " + criterion.getKey());
         }
     }
 
+    /**
+     * Returns a comparator of the values of {@code key}, which are null for persons without a value.
+     */
+    private static <T extends Comparable<? super T>> Comparator<Person> compareBy(Function<Person, T> key,
+            SortCriterion criterion) {
+        Comparator<T> order = criterion.isDescending() ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        return Comparator.comparing(key, criterion.isNullsFirst() ? Comparator.nullsFirst(order)
+                : Comparator.nullsLast(order));
+    }
+
     @Override
     public boolean equals(Object other) {
-        return other == this || other instanceof SortCommand;
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return criteria.equals(otherSortCommand.criteria);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria)
+                .toString();
     }
 }
@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.TopKeys;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the highest ranked persons, optionally only among those matching some keywords.
+ * The address book and the displayed list are left as they are.
+ */
+public class TopCommand extends Command {
+
+    public static final String COMMAND_WORD = "top";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the COUNT highest ranked persons, or only those "
+            + "containing any of the keywords (as in find), without changing the order of the list.\n"
+            + "Parameters: COUNT [KEYWORD]... [by/KEY] [then/KEY]...\n"
+            + "KEY is one of priority (HIGH first), noteLastEdited (most recent first), name. "
+            + "Persons without a value for a key are ranked last by it. Ranks by priority if no key is given.\n"
+            + "Example: " + COMMAND_WORD + " 20 by/priority then/noteLastEdited";
+    public static final String MESSAGE_SUCCESS = "Top %1$d persons by %2$s:";
+    public static final String MESSAGE_NO_MATCHES = "No persons match.";
+    public static final String MESSAGE_NO_KEYS = "At least one ranking key must be given.";
+
+    private final int count;
+    private final List<TopKeys> keys;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a TopCommand to list the first {@code count} persons in the order of {@code keys}.
+     */
+    public TopCommand(int count, List<TopKeys> keys) {
+        this(count, keys, Model.PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    /**
+     * Creates a TopCommand to list the first {@code count} persons satisfying {@code predicate} in the order of
+     * {@code keys}.
+     */
+    public TopCommand(int count, List<TopKeys> keys, Predicate<Person> predicate) {
+        requireAllNonNull(keys, predicate);
+        checkArgument(count > 0, "Count must be positive");
+        checkArgument(!keys.isEmpty(), MESSAGE_NO_KEYS);
+        this.count = count;
+        this.keys = List.copyOf(keys);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> persons = model.getAddressBook().getPersonList();
+
+        Iterable<Person> matches = () -> persons.stream().filter(predicate).iterator();
+        List<Person> top = CollectionUtil.smallest(matches, count, comparatorFor(keys));
+        if (top.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+
+        String description = keys.stream().map(TopKeys::getDisplayName).collect(Collectors.joining(", then "));
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, top.size(), description));
+        for (int i = 0; i < top.size(); i++) {
+            builder.append('\n').append(i + 1).append(". ").append(format(top.get(i)));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    /**
+     * Formats {@code person} like {@link Messages#format(Person)}, with the time its note was last edited.
+     */
+    private String format(Person person) {
+        String formatted = Messages.format(person);
+        if (keys.contains(TopKeys.NOTE_LAST_EDITED) && person.getNote() != null
+                && person.getNote().getLastEdited() != null) {
+            formatted += "; Note last edited: " + person.getNote().getFormattedLastEdited();
+        }
+        return formatted;
+    }
+
+    private static Comparator<Person> comparatorFor(List<TopKeys> keys) {
+        return keys.stream()
+                .map(TopCommand::createComparator)
+                .reduce(Comparator::thenComparing)
+                .orElseThrow();
+    }
+
+    private static Comparator<Person> createComparator(TopKeys key) {
+        switch (key) {
+        case PRIORITY:
+            return Comparator.comparing(person -> person.getPriority() != null
+                    ? person.getPriority().getLevel().getNumericValue() : null,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+        case NOTE_LAST_EDITED:
+            return Comparator.comparing(person -> person.getNote() != null ? person.getNote().getLastEdited() : null,
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+        case NAME:
+            return Comparator.comparing(Person::getNameKey);
+        default:
+            throw new IllegalArgumentException("Unsupported ranking key: " + key);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TopCommand)) {
+            return false;
+        }
+
+        TopCommand otherTopCommand = (TopCommand) other;
+        return count == otherTopCommand.count
+                && keys.equals(otherTopCommand.keys)
+                && predicate.equals(otherTopCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("keys", keys)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Records how long each command takes to parse and execute, how long writing the address book it changed takes,
+ * how much memory it allocates and how many persons it leaves shown, grouped by command word.
+ *
+ * Recording does not lock, so it adds little to the cost of a command.
+ */
+public class CommandMetrics implements CommandMetricsMxBean {
+
+    public static final String MBEAN_NAME = "seedu.address:type=CommandMetrics";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final String ROW_FORMAT = "%-9s %6s %9s %9s %9s %9s %9s %9s %8s %8s%n";
+
+    private final Map<String, Recorder> recorders = new ConcurrentSkipListMap<>();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean isAllocationMeasured = isAllocationMeasured(threadBean);
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or -1 if the JVM does not measure it.
+     */
+    public long getCurrentThreadAllocatedBytes() {
+        if (!isAllocationMeasured) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) threadBean).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Records one successful execution of a command starting with {@code commandWord}.
+     *
+     * @param allocatedBytes the bytes allocated while running the command, or a negative value if unknown.
+     */
+    public void record(String commandWord, long parseNanos, long executeNanos, long allocatedBytes, int resultSize) {
+        requireNonNull(commandWord);
+        Recorder recorder = recorders.computeIfAbsent(commandWord, word -> new Recorder());
+        recorder.parseNanos.record(parseNanos);
+        recorder.executeNanos.record(executeNanos);
+        if (allocatedBytes >= 0) {
+            recorder.allocatedBytes.record(allocatedBytes);
+        }
+        recorder.resultSize.record(resultSize);
+    }
+
+    /**
+     * Records that storage took {@code writeNanos} to write the address book saved after a command starting with
+     * {@code commandWord}. Storages that write in the background report this after the command has returned.
+     */
+    public void recordSave(String commandWord, long writeNanos) {
+        requireNonNull(commandWord);
+        recorders.computeIfAbsent(commandWord, word -> new Recorder()).saveNanos.record(writeNanos);
+    }
+
+    @Override
+    public List<CommandStatistics> getCommandStatistics() {
+        List<CommandStatistics> statistics = new ArrayList<>();
+        recorders.forEach((word, recorder) -> statistics.add(recorder.snapshot(word)));
+        return statistics;
+    }
+
+    @Override
+    public void reset() {
+        recorders.clear();
+    }
+
+    /**
+     * Returns a table of the statistics of every command word for display to the user. Times are in milliseconds,
+     * and all columns but the maximum execution time show percentiles.
+     */
+    public String toTable() {
+        List<CommandStatistics> statistics = getCommandStatistics();
+        if (statistics.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder sb = new StringBuilder(String.format(ROW_FORMAT, "command", "count", "parse p50", "exec p50",
+                "exec p99", "exec max", "save p50", "save p99", "alloc KB", "shown"));
+        for (CommandStatistics statistic : statistics) {
+            sb.append(String.format(ROW_FORMAT, statistic.getCommandWord(), statistic.getExecuteNanos().getCount(),
+                    millis(statistic.getParseNanos().getP50()), millis(statistic.getExecuteNanos().getP50()),
+                    millis(statistic.getExecuteNanos().getP99()), millis(statistic.getExecuteNanos().getMax()),
+                    millis(statistic.getSaveNanos().getP50()), millis(statistic.getSaveNanos().getP99()),
+                    statistic.getAllocatedBytes().getP50() / 1024, statistic.getResultSize().getP50()));
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Publishes these metrics on the platform MBean server under {@link #MBEAN_NAME}, replacing any metrics already
+     * published there. Failures are logged and otherwise ignored.
+     */
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            logger.warning("Could not publish command metrics over JMX: " + e);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    private static boolean isAllocationMeasured(ThreadMXBean threadBean) {
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+        return sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * The histograms of one command word.
+     */
+    private static class Recorder {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+        private final Histogram resultSize = new Histogram();
+
+        CommandStatistics snapshot(String commandWord) {
+            return new CommandStatistics(commandWord, parseNanos.snapshot(), executeNanos.snapshot(),
+                    saveNanos.snapshot(), allocatedBytes.snapshot(), resultSize.snapshot());
+        }
+    }
+
+}
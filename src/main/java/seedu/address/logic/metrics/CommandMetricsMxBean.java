@@ -0,0 +1,23 @@
+package seedu.address.logic.metrics;
+
+import java.util.List;
+import javax.management.MXBean;
+
+/**
+ * The management interface through which {@code CommandMetrics} are published over JMX.
+ * It is marked as an MXBean by annotation rather than by the {@code MXBean} name suffix.
+ */
+@MXBean
+public interface CommandMetricsMxBean {
+
+    /**
+     * Returns the statistics of every command word executed so far, ordered by command word.
+     */
+    List<CommandStatistics> getCommandStatistics();
+
+    /**
+     * Discards everything recorded so far.
+     */
+    void reset();
+
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.metrics;
+
+import java.beans.ConstructorProperties;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The measurements recorded for one command word. Times are in nanoseconds.
+ */
+public class CommandStatistics {
+
+    private final String commandWord;
+    private final HistogramSnapshot parseNanos;
+    private final HistogramSnapshot executeNanos;
+    private final HistogramSnapshot saveNanos;
+    private final HistogramSnapshot allocatedBytes;
+    private final HistogramSnapshot resultSize;
+
+    /**
+     * Creates the statistics of {@code commandWord}.
+     */
+    @ConstructorProperties({"commandWord", "parseNanos", "executeNanos", "saveNanos", "allocatedBytes",
+        "resultSize"})
+    public CommandStatistics(String commandWord, HistogramSnapshot parseNanos, HistogramSnapshot executeNanos,
+            HistogramSnapshot saveNanos, HistogramSnapshot allocatedBytes, HistogramSnapshot resultSize) {
+        this.commandWord = commandWord;
+        this.parseNanos = parseNanos;
+        this.executeNanos = executeNanos;
+        this.saveNanos = saveNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.resultSize = resultSize;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public HistogramSnapshot getParseNanos() {
+        return parseNanos;
+    }
+
+    public HistogramSnapshot getExecuteNanos() {
+        return executeNanos;
+    }
+
+    /**
+     * Returns the time storage took to write the address book saved after the command, excluding any time the save
+     * spent queued. Commands that did not change the address book, and saves that failed or were superseded by a
+     * later save before being written, are not counted here.
+     */
+    public HistogramSnapshot getSaveNanos() {
+        return saveNanos;
+    }
+
+    /**
+     * Returns the bytes allocated by the thread running the command, or an empty snapshot if the JVM does not
+     * measure them.
+     */
+    public HistogramSnapshot getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the number of persons shown after the command.
+     */
+    public HistogramSnapshot getResultSize() {
+        return resultSize;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandWord", commandWord)
+                .add("parseNanos", parseNanos)
+                .add("executeNanos", executeNanos)
+                .add("saveNanos", saveNanos)
+                .add("allocatedBytes", allocatedBytes)
+                .add("resultSize", resultSize)
+                .toString();
+    }
+
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative long values that many threads can record into without locking.
+ *
+ * Values below 64 are counted exactly. Larger values are counted in buckets whose width grows with the value, 32
+ * buckets for each power of two, so every reported percentile is within about 3% of the recorded value while the
+ * histogram uses a fixed amount of memory however many values are recorded.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_LIMIT = 2 * SUB_BUCKET_COUNT;
+    private static final int FIRST_INEXACT_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = EXACT_LIMIT + (Long.SIZE - 1 - FIRST_INEXACT_EXPONENT) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(recorded));
+        count.increment();
+        sum.add(recorded);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if none were recorded.
+     */
+    public double getMean() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : (double) sum.sum() / currentCount;
+    }
+
+    /**
+     * Returns the smallest value that at least {@code percentile} percent of the recorded values are not greater than,
+     * to the precision of the histogram, or 0 if no values were recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the values recorded so far.
+     */
+    public HistogramSnapshot snapshot() {
+        return new HistogramSnapshot(getCount(), getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+                getValueAtPercentile(99), getMax());
+    }
+
+    static int bucketOf(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+        return EXACT_LIMIT + (exponent - FIRST_INEXACT_EXPONENT) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < EXACT_LIMIT) {
+            return bucket;
+        }
+        int exponent = FIRST_INEXACT_EXPONENT + (bucket - EXACT_LIMIT) / SUB_BUCKET_COUNT;
+        long top = SUB_BUCKET_COUNT + (bucket - EXACT_LIMIT) % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return top == 2 * SUB_BUCKET_COUNT - 1 && exponent == Long.SIZE - 2
+                ? Long.MAX_VALUE
+                : ((top + 1) << shift) - 1;
+    }
+
+}
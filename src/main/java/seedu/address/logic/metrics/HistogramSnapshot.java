@@ -0,0 +1,94 @@
+package seedu.address.logic.metrics;
+
+import java.beans.ConstructorProperties;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The summary of a {@code Histogram} at one point in time.
+ */
+public class HistogramSnapshot {
+
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long max;
+
+    /**
+     * Creates a summary of {@code count} values with the given mean, percentiles and maximum.
+     */
+    @ConstructorProperties({"count", "mean", "p50", "p90", "p99", "max"})
+    public HistogramSnapshot(long count, double mean, long p50, long p90, long p99, long max) {
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistogramSnapshot)) {
+            return false;
+        }
+
+        HistogramSnapshot otherSnapshot = (HistogramSnapshot) other;
+        return count == otherSnapshot.count
+                && Double.compare(mean, otherSnapshot.mean) == 0
+                && p50 == otherSnapshot.p50
+                && p90 == otherSnapshot.p90
+                && p99 == otherSnapshot.p99
+                && max == otherSnapshot.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, mean, p50, p90, p99, max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("mean", mean)
+                .add("p50", p50)
+                .add("p90", p90)
+                .add("p99", p99)
+                .add("max", max)
+                .toString();
+    }
+
+}
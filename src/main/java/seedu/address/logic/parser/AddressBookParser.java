@@ -1,14 +1,21 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_BATCH_LINE;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_NOT_ALLOWED_IN_BATCH;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -21,7 +28,10 @@ import seedu.address.logic.commands.NoteCommand;
 import seedu.address.logic.commands.PriorityCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -33,8 +43,28 @@ public class AddressBookParser {
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final String BATCH_COMMENT_PREFIX = "#";
+    private static final Set<String> COMMANDS_NOT_ALLOWED_IN_BATCH = Set.of(UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, BatchCommand.COMMAND_WORD);
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a parser whose {@code stats} command reports on a new, empty set of metrics.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} command reports on {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -80,6 +110,9 @@ public class AddressBookParser {
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -95,10 +128,54 @@ public class AddressBookParser {
         case PriorityCommand.COMMAND_WORD:
             return new PriorityCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Parses every line of {@code lines} into a command, before any of them is run, and returns a command that runs
+     * them all as one batch. Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @throws ParseException if any line is not a valid command, is a command that cannot be used in a batch, or if
+     *     there are no commands.
+     */
+    public BatchCommand parseBatch(List<String> lines) throws ParseException {
+        requireNonNull(lines);
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(BATCH_COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            String commandWord = line.split("\\s+", 2)[0];
+            if (COMMANDS_NOT_ALLOWED_IN_BATCH.contains(commandWord)) {
+                throw new ParseException(String.format(MESSAGE_NOT_ALLOWED_IN_BATCH, lineNumber, commandWord));
+            }
+            Command command;
+            try {
+                command = parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            commands.add(command);
+            lineNumbers.add(lineNumber);
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(BatchCommand.MESSAGE_NO_COMMANDS);
+        }
+        return new BatchCommand(commands, lineNumbers);
+    }
+
 }
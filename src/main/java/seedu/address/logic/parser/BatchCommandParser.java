@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNREADABLE_BATCH_FILE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a parser that parses the commands in a batch file with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution. Every command in the file is parsed before this returns.
+     * @throws ParseException if the file cannot be read or any of its commands does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_BATCH_FILE, trimmedArgs), e);
+        }
+        return addressBookParser.parseBatch(lines);
+    }
+}
@@ -14,5 +14,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_COMPANY = new Prefix("c/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
     public static final Prefix PREFIX_PRIORITY = new Prefix("pr/");
+    public static final Prefix PREFIX_BY = new Prefix("by/");
+    public static final Prefix PREFIX_THEN = new Prefix("then/");
 
 }
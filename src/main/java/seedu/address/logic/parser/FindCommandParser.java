@@ -1,21 +1,57 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Field;
+import seedu.address.model.person.PersonQuery.Term;
+import seedu.address.model.person.Priority;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String MESSAGE_MISSING_TERM_VALUE = "Missing value after %1$s in find query.";
+
+    /** Field prefixes in the order they are tried, so that pr/ is not taken for p/. */
+    private static final Map<String, Field> FIELD_PREFIXES = new LinkedHashMap<>();
+
+    static {
+        FIELD_PREFIXES.put(PREFIX_PRIORITY.getPrefix(), Field.PRIORITY);
+        FIELD_PREFIXES.put(PREFIX_NAME.getPrefix(), Field.NAME);
+        FIELD_PREFIXES.put(PREFIX_PHONE.getPrefix(), Field.PHONE);
+        FIELD_PREFIXES.put(PREFIX_EMAIL.getPrefix(), Field.EMAIL);
+        FIELD_PREFIXES.put(PREFIX_ADDRESS.getPrefix(), Field.ADDRESS);
+        FIELD_PREFIXES.put(PREFIX_COMPANY.getPrefix(), Field.COMPANY);
+        FIELD_PREFIXES.put(PREFIX_TAG.getPrefix(), Field.TAG);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     *
+     * Terms next to each other must all match, and {@code OR} separates alternatives, so {@code AND} binds tighter
+     * than {@code OR}. Keywords without a field prefix in the same alternative are combined into one term that
+     * matches if any of them is found in any field, which keeps {@code find alice bob} working as before.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -25,9 +61,109 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<List<Term>> clauses = new ArrayList<>();
+        ClauseBuilder clause = new ClauseBuilder();
+        boolean isNegatingNext = false;
+        // Whether an operator has been given that still needs a term after it
+        boolean isExpectingTerm = false;
+        for (String token : trimmedArgs.split("\\s+")) {
+            if (token.equals(OPERATOR_OR)) {
+                if (isExpectingTerm) {
+                    throw invalidFormat();
+                }
+                clauses.add(clause.build());
+                clause = new ClauseBuilder();
+            } else if (token.equals(OPERATOR_AND)) {
+                if (isExpectingTerm || clause.isEmpty()) {
+                    throw invalidFormat();
+                }
+                isExpectingTerm = true;
+            } else if (token.equals(OPERATOR_NOT)) {
+                isNegatingNext = !isNegatingNext;
+                isExpectingTerm = true;
+            } else {
+                boolean isNegated = isNegatingNext;
+                isNegatingNext = false;
+                isExpectingTerm = false;
+                String body = token;
+                if (token.length() > 1 && token.startsWith("-")) {
+                    isNegated = !isNegated;
+                    body = token.substring(1);
+                }
+                clause.add(body, isNegated);
+            }
+        }
+        if (isExpectingTerm) {
+            throw invalidFormat();
+        }
+        clauses.add(clause.build());
+
+        return new FindCommand(new PersonQuery(clauses));
+    }
+
+    /**
+     * Returns the term on a single field written as {@code token}, or null if {@code token} has no field prefix.
+     */
+    private static Term parseFieldTerm(String token) throws ParseException {
+        for (Map.Entry<String, Field> fieldPrefix : FIELD_PREFIXES.entrySet()) {
+            String prefix = fieldPrefix.getKey();
+            if (!token.startsWith(prefix)) {
+                continue;
+            }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            String value = token.substring(prefix.length());
+            Field field = fieldPrefix.getValue();
+            if (value.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_TERM_VALUE, prefix));
+            }
+            if (field == Field.PRIORITY && !Priority.isValidPriority(value)) {
+                throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
+            }
+            if (field == Field.TAG && !Tag.isValidTagName(value)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            return Term.of(field, value);
+        }
+        return null;
     }
 
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The terms of one alternative of a query, collecting its plain keywords into one term.
+     */
+    private static class ClauseBuilder {
+        private final List<String> keywords = new ArrayList<>();
+        private final List<Term> terms = new ArrayList<>();
+
+        void add(String token, boolean isNegated) throws ParseException {
+            Term term = parseFieldTerm(token);
+            if (term == null && !isNegated) {
+                keywords.add(token);
+                return;
+            }
+            if (term == null) {
+                term = Term.anyOf(List.of(token));
+            }
+            terms.add(isNegated ? term.negate() : term);
+        }
+
+        boolean isEmpty() {
+            return keywords.isEmpty() && terms.isEmpty();
+        }
+
+        List<Term> build() throws ParseException {
+            if (isEmpty()) {
+                throw invalidFormat();
+            }
+            List<Term> clause = new ArrayList<>();
+            if (!keywords.isEmpty()) {
+                clause.add(Term.anyOf(keywords));
+            }
+            clause.addAll(terms);
+            return clause;
+        }
+    }
 }
@@ -17,6 +17,7 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Priority;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -110,7 +111,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagDictionary.intern(trimmedTag);
     }
 
     /**
@@ -137,7 +138,7 @@ public class ParserUtil {
         if (!Company.isValidCompany(trimmedCompany)) {
             throw new ParseException(Company.MESSAGE_CONSTRAINTS);
         }
-        return new Company(trimmedCompany);
+        return Company.of(trimmedCompany);
     }
 
     /**
@@ -174,7 +175,7 @@ public class ParserUtil {
         if (!Priority.isValidPriority(trimmedPriority)) {
             throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
         }
-        return new Priority(trimmedPriority);
+        return Priority.of(trimmedPriority);
     }
 
 }
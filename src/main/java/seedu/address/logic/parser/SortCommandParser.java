@@ -1,7 +1,14 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_SORT_KEY;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_SORT_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -10,13 +17,41 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * and returns a SortCommand object for execution.
  */
 public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses a list of sort keys, each optionally followed by {@code asc} or {@code desc} and then by
+     * {@code nullsfirst} or {@code nullslast}. No keys sorts by name.
+     *
+     * @throws ParseException if a key is unknown or given more than once
+     */
     @Override
     public SortCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
-        SortKeys key = trimmedArgs.isEmpty()
-                ? SortKeys.NAME
-                : parseField(trimmedArgs.toLowerCase(java.util.Locale.ROOT));
-        return new SortCommand(key);
+        if (trimmedArgs.isEmpty()) {
+            return new SortCommand(SortKeys.NAME);
+        }
+
+        String[] tokens = trimmedArgs.toLowerCase(Locale.ROOT).split("\\s+");
+        List<SortCriterion> criteria = new ArrayList<>();
+        Set<SortKeys> seenKeys = EnumSet.noneOf(SortKeys.class);
+        int i = 0;
+        while (i < tokens.length) {
+            SortKeys key = parseField(tokens[i++]);
+            if (!seenKeys.add(key)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_SORT_KEY, key.getDisplayName()));
+            }
+
+            boolean isDescending = false;
+            if (i < tokens.length && (tokens[i].equals("asc") || tokens[i].equals("desc"))) {
+                isDescending = tokens[i++].equals("desc");
+            }
+            boolean isNullsFirst = false;
+            if (i < tokens.length && (tokens[i].equals("nullsfirst") || tokens[i].equals("nullslast"))) {
+                isNullsFirst = tokens[i++].equals("nullsfirst");
+            }
+            criteria.add(new SortCriterion(key, isDescending, isNullsFirst));
+        }
+        return new SortCommand(criteria);
     }
 
     private SortKeys parseField(String raw) throws ParseException {
@@ -25,6 +60,7 @@ public class SortCommandParser implements Parser<SortCommand> {
         case "phone": return SortKeys.PHONE;
         case "email": return SortKeys.EMAIL;
         case "address": return SortKeys.ADDRESS;
+        case "company": return SortKeys.COMPANY;
         case "tag": return SortKeys.TAG;
         case "priority": return SortKeys.PRIORITY;
         default:
@@ -0,0 +1,86 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * One key of a sort, with its direction and where persons without a value for the key are placed.
+ */
+public class SortCriterion {
+
+    private final SortKeys key;
+    private final boolean isDescending;
+    private final boolean isNullsFirst;
+
+    /**
+     * Creates a criterion sorting by {@code key} in the given direction, placing persons without a value for
+     * {@code key} first or last.
+     */
+    public SortCriterion(SortKeys key, boolean isDescending, boolean isNullsFirst) {
+        requireNonNull(key);
+        this.key = key;
+        this.isDescending = isDescending;
+        this.isNullsFirst = isNullsFirst;
+    }
+
+    /**
+     * Creates a criterion sorting by {@code key} in ascending order, with persons without a value for it last.
+     */
+    public static SortCriterion ascending(SortKeys key) {
+        return new SortCriterion(key, false, false);
+    }
+
+    public SortKeys getKey() {
+        return key;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    public boolean isNullsFirst() {
+        return isNullsFirst;
+    }
+
+    /**
+     * Returns a description of this criterion for the user, e.g. {@code priority (descending, missing first)}.
+     */
+    public String getDescription() {
+        return key.getDisplayName() + (isDescending ? " (descending" : " (ascending")
+                + (isNullsFirst ? ", missing first)" : ")");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCriterion)) {
+            return false;
+        }
+
+        SortCriterion otherCriterion = (SortCriterion) other;
+        return key == otherCriterion.key
+                && isDescending == otherCriterion.isDescending
+                && isNullsFirst == otherCriterion.isNullsFirst;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, isDescending, isNullsFirst);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .add("isDescending", isDescending)
+                .add("isNullsFirst", isNullsFirst)
+                .toString();
+    }
+}
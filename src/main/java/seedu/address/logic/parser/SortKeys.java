@@ -9,6 +9,7 @@ public enum SortKeys {
     PHONE("number"),
     EMAIL("email"),
     ADDRESS("address"),
+    COMPANY("company"),
     TAG("tag"),
     PRIORITY("priority");
 
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_SORT_KEY;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TOP_KEY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_THEN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new TopCommand object
+ */
+public class TopCommandParser implements Parser<TopCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TopCommand
+     * and returns a TopCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BY, PREFIX_THEN);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_BY);
+
+        String[] preamble = argMultimap.getPreamble().trim().split("\\s+");
+        if (!StringUtil.isNonZeroUnsignedInteger(preamble[0])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+        int count = Integer.parseInt(preamble[0]);
+
+        Optional<String> firstKey = argMultimap.getValue(PREFIX_BY);
+        List<String> laterKeys = argMultimap.getAllValues(PREFIX_THEN);
+        if (firstKey.isEmpty() && !laterKeys.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+        List<TopKeys> keys = new ArrayList<>();
+        keys.add(firstKey.isPresent() ? parseKey(firstKey.get()) : TopKeys.PRIORITY);
+        for (String laterKey : laterKeys) {
+            TopKeys key = parseKey(laterKey);
+            if (keys.contains(key)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_SORT_KEY, key.getDisplayName()));
+            }
+            keys.add(key);
+        }
+
+        if (preamble.length == 1) {
+            return new TopCommand(count, keys);
+        }
+        List<String> keywords = Arrays.asList(preamble).subList(1, preamble.length);
+        return new TopCommand(count, keys, new NameContainsKeywordsPredicate(keywords));
+    }
+
+    private static TopKeys parseKey(String key) throws ParseException {
+        String trimmedKey = key.trim();
+        return TopKeys.fromDisplayName(trimmedKey).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_TOP_KEY, trimmedKey)));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import java.util.Optional;
+
+/**
+ * Enumeration of keys to rank contacts by.
+ * Used by TopCommand and TopCommandParser.
+ */
+public enum TopKeys {
+    PRIORITY("priority"),
+    NOTE_LAST_EDITED("noteLastEdited"),
+    NAME("name");
+
+    private final String displayName;
+
+    TopKeys(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the key whose display name is {@code displayName}, ignoring case.
+     */
+    public static Optional<TopKeys> fromDisplayName(String displayName) {
+        for (TopKeys key : values()) {
+            if (key.displayName.equalsIgnoreCase(displayName)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+}
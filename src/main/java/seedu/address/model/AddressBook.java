@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersistentPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -17,6 +20,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +51,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -58,11 +63,37 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable snapshot of the persons currently in this {@code AddressBook}.
+     * Snapshots share unchanged structure with each other, so taking one costs constant time and memory.
+     */
+    @Override
+    public PersistentPersonList snapshot() {
+        return persons.snapshot();
+    }
+
+    /**
+     * Resets the existing data of this {@code AddressBook} to a {@code snapshot} taken earlier.
+     */
+    public void restore(PersistentPersonList snapshot) {
+        persons.restore(snapshot);
+        version++;
+    }
+
     /**
      * Sorts person list using given comparator
      */
     public void sortPersons(Comparator<Person> comparator) {
-        persons.sort(comparator);
+        sortPersons(comparator, UserPrefs.DEFAULT_PARALLEL_SORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts person list using given comparator, on several threads if there are at least
+     * {@code parallelSortThreshold} persons.
+     */
+    public void sortPersons(Comparator<Person> comparator, int parallelSortThreshold) {
+        persons.sort(comparator, parallelSortThreshold);
+        version++;
     }
 
     //// person-level operations
@@ -81,6 +112,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        version++;
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the persons who may match {@code query}, or an empty Optional if every person may match.
+     * @see UniquePersonList#searchCandidates(PersonQuery)
+     */
+    public Optional<List<Person>> searchCandidates(PersonQuery query) {
+        return persons.searchCandidates(query);
     }
 
     /**
@@ -92,6 +148,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
+    }
+
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * @see UniquePersonList#setPerson(int, Person)
+     */
+    public void setPerson(int index, Person editedPerson) {
+        persons.setPerson(index, editedPerson);
+        version++;
     }
 
     /**
@@ -100,6 +167,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Removes the person at {@code index} from this {@code AddressBook}.
+     * @see UniquePersonList#remove(int)
+     */
+    public void removePerson(int index) {
+        persons.remove(index);
+        version++;
+    }
+
+    /**
+     * Returns the modification version of this address book.
+     * The version starts at 0 and increases every time the person list is changed, so two equal versions of the
+     * same {@code AddressBook} always hold the same persons.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
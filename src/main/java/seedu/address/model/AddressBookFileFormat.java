@@ -0,0 +1,12 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book file can be stored.
+ */
+public enum AddressBookFileFormat {
+    /** A human-readable json file. */
+    JSON,
+
+    /** A compact binary file, which is smaller and faster to read and write. */
+    BINARY
+}
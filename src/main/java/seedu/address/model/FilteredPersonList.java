@@ -0,0 +1,194 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of an address book that satisfy the active filter, in address book order.
+ *
+ * The filter is kept across changes to the address book. A change to a single person re-tests only that person and
+ * is applied to the visible list as a single add, remove or replace, so that listeners such as the person list panel
+ * only redraw what changed. The address book position of every visible person is kept in a sorted array, so the
+ * visible position of a changed person is found by binary search. Inserting or removing a person in the address book
+ * still shifts the stored positions of the visible persons after it, which is O(visible) per change.
+ */
+class FilteredPersonList {
+
+    private final ObservableList<Person> visiblePersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableVisiblePersons =
+            FXCollections.unmodifiableObservableList(visiblePersons);
+    private Predicate<Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+
+    /** {@code sourceIndices[i]} is the address book position of {@code visiblePersons.get(i)}. */
+    private int[] sourceIndices = new int[0];
+
+    /**
+     * Creates a view showing every person in {@code source}.
+     */
+    FilteredPersonList(List<Person> source) {
+        refilter(source);
+    }
+
+    /**
+     * Returns the visible persons as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableVisiblePersons;
+    }
+
+    Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons in {@code source} that satisfy {@code predicate}, and keeps applying {@code predicate} to
+     * later changes.
+     */
+    void setPredicate(Predicate<Person> predicate, List<Person> source) {
+        requireAllNonNull(predicate, source);
+        this.predicate = predicate;
+        refilter(source);
+    }
+
+    /**
+     * Shows {@code matches}, which must be all the persons in the address book that satisfy {@code predicate}, and
+     * keeps applying {@code predicate} to later changes. No person is tested, so callers that can find the matches
+     * without testing every person, e.g. through a search index, avoid a pass over the whole address book.
+     *
+     * @param matchIndices the address book positions of {@code matches}, in increasing order.
+     */
+    void setPredicate(Predicate<Person> predicate, int[] matchIndices, List<Person> matches) {
+        requireAllNonNull(predicate, matchIndices, matches);
+        this.predicate = predicate;
+        sourceIndices = matchIndices;
+        visiblePersons.setAll(matches);
+    }
+
+    /**
+     * Re-tests every person in {@code source}, which has replaced the previous contents of the address book.
+     */
+    void refilter(List<Person> source) {
+        requireNonNull(source);
+        List<Person> matches = new ArrayList<>();
+        int[] indices = new int[source.size()];
+        for (int i = 0; i < source.size(); i++) {
+            Person person = source.get(i);
+            if (predicate.test(person)) {
+                indices[matches.size()] = i;
+                matches.add(person);
+            }
+        }
+        sourceIndices = indices;
+        visiblePersons.setAll(matches);
+    }
+
+    /**
+     * Updates the view after the persons in the address book were reordered into {@code source}. The persons
+     * shown do not change, so none of them is re-tested.
+     */
+    void reorder(List<Person> source) {
+        requireNonNull(source);
+        Set<Person> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+        shown.addAll(visiblePersons);
+
+        List<Person> reordered = new ArrayList<>(shown.size());
+        for (int i = 0; i < source.size(); i++) {
+            Person person = source.get(i);
+            if (shown.contains(person)) {
+                sourceIndices[reordered.size()] = i;
+                reordered.add(person);
+            }
+        }
+        visiblePersons.setAll(reordered);
+    }
+
+    /**
+     * Updates the view after {@code person} was inserted into the address book at {@code sourceIndex}.
+     */
+    void personInserted(int sourceIndex, Person person) {
+        requireNonNull(person);
+        int position = positionOf(sourceIndex);
+        shiftSourceIndices(position, 1);
+        if (predicate.test(person)) {
+            insertSourceIndex(position, sourceIndex);
+            visiblePersons.add(position, person);
+        }
+    }
+
+    /**
+     * Updates the view after the person at {@code sourceIndex} was removed from the address book.
+     */
+    void personRemoved(int sourceIndex) {
+        int position = positionOf(sourceIndex);
+        if (isShownAt(position, sourceIndex)) {
+            removeSourceIndex(position);
+            visiblePersons.remove(position);
+        }
+        shiftSourceIndices(position, -1);
+    }
+
+    /**
+     * Updates the view after the person at {@code sourceIndex} in the address book was replaced by
+     * {@code editedPerson}.
+     */
+    void personReplaced(int sourceIndex, Person editedPerson) {
+        requireNonNull(editedPerson);
+        int position = positionOf(sourceIndex);
+        boolean wasShown = isShownAt(position, sourceIndex);
+        boolean isShown = predicate.test(editedPerson);
+
+        if (wasShown && isShown) {
+            visiblePersons.set(position, editedPerson);
+        } else if (wasShown) {
+            removeSourceIndex(position);
+            visiblePersons.remove(position);
+        } else if (isShown) {
+            insertSourceIndex(position, sourceIndex);
+            visiblePersons.add(position, editedPerson);
+        }
+    }
+
+    /**
+     * Returns the visible position of the person at {@code sourceIndex} if it is shown, or else the visible position
+     * that person would be shown at.
+     */
+    private int positionOf(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndices, 0, visiblePersons.size(), sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private boolean isShownAt(int position, int sourceIndex) {
+        return position < visiblePersons.size() && sourceIndices[position] == sourceIndex;
+    }
+
+    private void shiftSourceIndices(int fromPosition, int delta) {
+        for (int i = fromPosition; i < visiblePersons.size(); i++) {
+            sourceIndices[i] += delta;
+        }
+    }
+
+    private void insertSourceIndex(int position, int sourceIndex) {
+        int size = visiblePersons.size();
+        if (size == sourceIndices.length) {
+            sourceIndices = Arrays.copyOf(sourceIndices, Math.max(16, size * 2));
+        }
+        System.arraycopy(sourceIndices, position, sourceIndices, position + 1, size - position);
+        sourceIndices[position] = sourceIndex;
+    }
+
+    private void removeSourceIndex(int position) {
+        System.arraycopy(sourceIndices, position + 1, sourceIndices, position, visiblePersons.size() - position - 1);
+    }
+}
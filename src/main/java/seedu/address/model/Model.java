@@ -7,6 +7,7 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 
 /**
  * The API of the Model component.
@@ -20,6 +21,30 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Starts a transaction. Until it ends, {@link #commitAddressBook()} does nothing, so that every change made in
+     * the transaction becomes part of a single committed state.
+     *
+     * @throws IllegalStateException if a transaction has already started.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction, committing the changes made in it as one state for undo/redo history.
+     * The whole transaction is recorded as one change, however many persons it changed.
+     *
+     * @throws IllegalStateException if no transaction has started.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction, reverting the address book to its state when the transaction began and showing all
+     * persons.
+     *
+     * @throws IllegalStateException if no transaction has started.
+     */
+    void rollbackTransaction();
+
     /**
      * Returns true if there is a previous state to undo to.
      */
@@ -75,6 +100,11 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the modification version of the AddressBook, which increases whenever its persons change.
+     */
+    long getAddressBookVersion();
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -115,4 +145,11 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show only persons matching {@code query},
+     * using the address book's search indexes to avoid testing persons that cannot match.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void findPersons(PersonQuery query);
 }
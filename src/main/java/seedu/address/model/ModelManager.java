@@ -4,30 +4,41 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.history.AddressBookChange;
+import seedu.address.model.history.AddressBookHistory;
+import seedu.address.model.person.PersistentPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * Deleting or editing a person looks up its position once and passes it to both the address book and the filtered
+ * list. The address book still shifts the persons after it, and the filtered list the visible persons after it, so
+ * such a change costs O(N) array copying and O(visible) index updates, but no further search for the person.
  */
 public class ModelManager implements Model {
 
 
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final java.util.List<AddressBook> addressBookHistory = new java.util.ArrayList<>();
-    private int historyPointer = -1;
-
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final AddressBookHistory addressBookHistory;
+    /** The persons when the current transaction began, or null if there is no transaction. */
+    private PersistentPersonList transactionStart = null;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,7 +50,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList());
+        addressBookHistory = AddressBookHistory.create(this.userPrefs.getUndoHistoryMode(), this.addressBook,
+                this.userPrefs.getUndoHistoryLimit());
         commitAddressBook();
     }
     /**
@@ -88,54 +101,97 @@ public class ModelManager implements Model {
     }
 
     //=========== AddressBook ================================================================================
-    private void pushCurrentStateToHistory() {
-        while (addressBookHistory.size() > historyPointer + 1) {
-            addressBookHistory.remove(addressBookHistory.size() - 1);
+    @Override
+    public void commitAddressBook() {
+        if (transactionStart != null) {
+            logger.fine("In a transaction, deferring commit");
+            return;
         }
-        addressBookHistory.add(new AddressBook(this.addressBook));
-        historyPointer = addressBookHistory.size() - 1;
+        addressBookHistory.commit();
     }
 
     @Override
-    public void commitAddressBook() {
-        pushCurrentStateToHistory();
+    public void beginTransaction() {
+        if (transactionStart != null) {
+            throw new IllegalStateException("A transaction has already started");
+        }
+        transactionStart = addressBook.snapshot();
+    }
+
+    @Override
+    public void commitTransaction() {
+        PersistentPersonList before = endTransaction();
+        PersistentPersonList after = addressBook.snapshot();
+        if (after != before) {
+            addressBookHistory.record(AddressBookChange.replace(before, after));
+        }
+        addressBookHistory.commit();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        PersistentPersonList before = endTransaction();
+        if (addressBook.snapshot() != before) {
+            addressBook.restore(before);
+        }
+        this.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    /**
+     * Ends the current transaction and returns the persons from when it began.
+     */
+    private PersistentPersonList endTransaction() {
+        if (transactionStart == null) {
+            throw new IllegalStateException("No transaction has started");
+        }
+        PersistentPersonList before = transactionStart;
+        transactionStart = null;
+        return before;
+    }
+
+    /**
+     * Records {@code change} in the undo/redo history. Changes made in a transaction are not recorded one by one,
+     * as the whole transaction is recorded as a single change when it is committed.
+     */
+    private void recordChange(AddressBookChange change) {
+        if (transactionStart == null) {
+            addressBookHistory.record(change);
+        }
     }
 
     @Override
     public boolean canUndoAddressBook() {
-        return historyPointer > 0;
+        return addressBookHistory.canUndo();
     }
 
     @Override
     public void undoAddressBook() {
-        if (!canUndoAddressBook()) {
-            throw new IllegalStateException("No previous state to undo to");
-        }
-        historyPointer--;
-        AddressBook previous = addressBookHistory.get(historyPointer);
-        this.addressBook.resetData(previous);
+        addressBookHistory.undo();
         this.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public boolean canRedoAddressBook() {
-        return historyPointer < addressBookHistory.size() - 1;
+        return addressBookHistory.canRedo();
     }
 
     @Override
     public void redoAddressBook() {
-        if (!canRedoAddressBook()) {
-            throw new IllegalStateException("No next state to redo to");
-        }
-        historyPointer++;
-        AddressBook next = addressBookHistory.get(historyPointer);
-        this.addressBook.resetData(next);
+        addressBookHistory.redo();
         this.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        PersistentPersonList before = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        recordChange(AddressBookChange.replace(before, this.addressBook.snapshot()));
+        filteredPersons.refilter(this.addressBook.getPersonList());
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
     }
 
     @Override
@@ -151,43 +207,84 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        int index = positionOf(target);
+        addressBook.removePerson(index);
+        recordChange(AddressBookChange.remove(target, index));
+        filteredPersons.personRemoved(index);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        recordChange(AddressBookChange.add(person));
+        filteredPersons.personInserted(addressBook.getPersonList().size() - 1, person);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        int index = positionOf(target);
+        addressBook.setPerson(index, editedPerson);
+        recordChange(AddressBookChange.set(target, editedPerson));
+        filteredPersons.personReplaced(index, editedPerson);
+    }
+
+    /**
+     * Returns the position of {@code person} in the address book.
+     * @throws PersonNotFoundException if {@code person} is not in the address book.
+     */
+    private int positionOf(Person person) {
+        int index = addressBook.indexOf(person);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return index;
     }
 
     @Override
     public void sortPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        addressBook.sortPersons(comparator);
+        PersistentPersonList before = addressBook.snapshot();
+        addressBook.sortPersons(comparator, userPrefs.getParallelSortThreshold());
+        recordChange(AddressBookChange.replace(before, addressBook.snapshot()));
+        filteredPersons.reorder(addressBook.getPersonList());
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}. The view keeps its filter when persons are added, edited or removed.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(predicate, addressBook.getPersonList());
+    }
+
+    @Override
+    public void findPersons(PersonQuery query) {
+        requireNonNull(query);
+        Optional<List<Person>> candidates = addressBook.searchCandidates(query);
+        if (candidates.isEmpty()) {
+            filteredPersons.setPredicate(query, addressBook.getPersonList());
+            return;
+        }
+
+        // Only the candidates are tested, and the matches are shown in address book order
+        int[] matchIndices = candidates.get().stream().filter(query).mapToInt(addressBook::indexOf).sorted().toArray();
+        List<Person> persons = addressBook.getPersonList();
+        List<Person> matches = new ArrayList<>(matchIndices.length);
+        for (int index : matchIndices) {
+            matches.add(persons.get(index));
+        }
+        filteredPersons.setPredicate(query, matchIndices, matches);
     }
 
     @Override
@@ -204,6 +301,6 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PersistentPersonList;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +15,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an immutable snapshot of the persons list that is unaffected by later changes.
+     */
+    default PersistentPersonList snapshot() {
+        return PersistentPersonList.of(getPersonList());
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.UndoHistoryMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,35 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book file should be written without indentation or line breaks.
+     */
+    boolean isCompactAddressBookFile();
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal instead of rewriting the file.
+     */
+    boolean isJournaledAddressBookFile();
+
+    /**
+     * Returns the format in which the address book file is stored.
+     * A file path ending in {@code .bin} is always stored in the binary format.
+     */
+    AddressBookFileFormat getAddressBookFileFormat();
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    int getUndoHistoryLimit();
+
+    /**
+     * Returns how the undo/redo history is recorded.
+     */
+    UndoHistoryMode getUndoHistoryMode();
+
+    /**
+     * Returns the number of persons from which the address book is sorted on several threads.
+     */
+    int getParallelSortThreshold();
+
 }
@@ -1,20 +1,34 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.UndoHistoryMode;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS = "Undo history limit must not be negative";
+    public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 10_000;
+    public static final String MESSAGE_PARALLEL_SORT_THRESHOLD_CONSTRAINTS =
+            "Parallel sort threshold must not be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean compactAddressBookFile = false;
+    private boolean journaledAddressBookFile = false;
+    private AddressBookFileFormat addressBookFileFormat = AddressBookFileFormat.JSON;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private UndoHistoryMode undoHistoryMode = UndoHistoryMode.SNAPSHOT;
+    private int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +50,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCompactAddressBookFile(newUserPrefs.isCompactAddressBookFile());
+        setJournaledAddressBookFile(newUserPrefs.isJournaledAddressBookFile());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryMode(newUserPrefs.getUndoHistoryMode());
+        setParallelSortThreshold(newUserPrefs.getParallelSortThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +76,58 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isCompactAddressBookFile() {
+        return compactAddressBookFile;
+    }
+
+    public void setCompactAddressBookFile(boolean compactAddressBookFile) {
+        this.compactAddressBookFile = compactAddressBookFile;
+    }
+
+    public boolean isJournaledAddressBookFile() {
+        return journaledAddressBookFile;
+    }
+
+    public void setJournaledAddressBookFile(boolean journaledAddressBookFile) {
+        this.journaledAddressBookFile = journaledAddressBookFile;
+    }
+
+    public AddressBookFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(AddressBookFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public UndoHistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(UndoHistoryMode undoHistoryMode) {
+        requireNonNull(undoHistoryMode);
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        checkArgument(parallelSortThreshold >= 0, MESSAGE_PARALLEL_SORT_THRESHOLD_CONSTRAINTS);
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +141,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && compactAddressBookFile == otherUserPrefs.compactAddressBookFile
+                && journaledAddressBookFile == otherUserPrefs.journaledAddressBookFile
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && undoHistoryMode == otherUserPrefs.undoHistoryMode
+                && parallelSortThreshold == otherUserPrefs.parallelSortThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, compactAddressBookFile, journaledAddressBookFile,
+                addressBookFileFormat, undoHistoryLimit, undoHistoryMode, parallelSortThreshold);
     }
 
     @Override
@@ -82,6 +161,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data file : " + compactAddressBookFile);
+        sb.append("\nJournaled data file : " + journaledAddressBookFile);
+        sb.append("\nData file format : " + addressBookFileFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history mode : " + undoHistoryMode);
+        sb.append("\nParallel sort threshold : " + parallelSortThreshold);
         return sb.toString();
     }
 
@@ -0,0 +1,97 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * A reversible change made to an {@link AddressBook}.
+ */
+public interface AddressBookChange {
+
+    /**
+     * Makes this change to {@code addressBook}, which must be in the state from before the change.
+     */
+    void apply(AddressBook addressBook);
+
+    /**
+     * Undoes this change on {@code addressBook}, which must be in the state from after the change.
+     */
+    void revert(AddressBook addressBook);
+
+    /**
+     * Returns the change of {@code person} being added to the end of the person list.
+     */
+    static AddressBookChange add(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange() {
+            @Override
+            public void apply(AddressBook addressBook) {
+                addressBook.addPerson(person);
+            }
+
+            @Override
+            public void revert(AddressBook addressBook) {
+                addressBook.removePerson(person);
+            }
+        };
+    }
+
+    /**
+     * Returns the change of {@code person} being removed from position {@code index} of the person list.
+     */
+    static AddressBookChange remove(Person person, int index) {
+        requireNonNull(person);
+        return new AddressBookChange() {
+            @Override
+            public void apply(AddressBook addressBook) {
+                addressBook.removePerson(person);
+            }
+
+            @Override
+            public void revert(AddressBook addressBook) {
+                addressBook.addPerson(index, person);
+            }
+        };
+    }
+
+    /**
+     * Returns the change of {@code target} being replaced by {@code editedPerson}.
+     */
+    static AddressBookChange set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new AddressBookChange() {
+            @Override
+            public void apply(AddressBook addressBook) {
+                addressBook.setPerson(target, editedPerson);
+            }
+
+            @Override
+            public void revert(AddressBook addressBook) {
+                addressBook.setPerson(editedPerson, target);
+            }
+        };
+    }
+
+    /**
+     * Returns the change of the whole person list going from {@code before} to {@code after},
+     * e.g. when it is sorted or cleared.
+     */
+    static AddressBookChange replace(PersistentPersonList before, PersistentPersonList after) {
+        requireAllNonNull(before, after);
+        return new AddressBookChange() {
+            @Override
+            public void apply(AddressBook addressBook) {
+                addressBook.restore(after);
+            }
+
+            @Override
+            public void revert(AddressBook addressBook) {
+                addressBook.restore(before);
+            }
+        };
+    }
+}
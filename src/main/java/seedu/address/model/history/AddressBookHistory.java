@@ -0,0 +1,60 @@
+package seedu.address.model.history;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Records committed states of an {@link AddressBook} so that they can be undone and redone.
+ */
+public interface AddressBookHistory {
+
+    /**
+     * Records {@code change}, which has just been made to the address book, as part of the next commit.
+     */
+    void record(AddressBookChange change);
+
+    /**
+     * Marks the current state of the address book as a committed state.
+     * Any states that could previously be redone are discarded.
+     */
+    void commit();
+
+    /**
+     * Returns true if there is a previous committed state to undo to.
+     */
+    boolean canUndo();
+
+    /**
+     * Reverts the address book to the previous committed state.
+     *
+     * @throws IllegalStateException if there is no previous committed state.
+     */
+    void undo();
+
+    /**
+     * Returns true if there is a next committed state to redo to.
+     */
+    boolean canRedo();
+
+    /**
+     * Reverts the address book to the next committed state.
+     *
+     * @throws IllegalStateException if there is no next committed state.
+     */
+    void redo();
+
+    /**
+     * Creates the history for {@code addressBook} using the given {@code mode}.
+     *
+     * @param limit the maximum number of commits that can be undone.
+     */
+    static AddressBookHistory create(UndoHistoryMode mode, AddressBook addressBook, int limit) {
+        switch (mode) {
+        case DELTA:
+            return new DeltaHistory(addressBook, limit);
+        case SNAPSHOT:
+            return new SnapshotHistory(addressBook, limit);
+        default:
+            throw new IllegalArgumentException("Unsupported undo history mode: " + mode);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * An {@code AddressBookHistory} that stores, for every commit, the changes made since the previous commit.
+ * Undoing a commit applies the inverse of each of its changes in reverse order, and redoing applies them again,
+ * so only the affected persons are touched instead of the whole list being replaced.
+ */
+public class DeltaHistory implements AddressBookHistory {
+
+    private final AddressBook addressBook;
+    private final int limit;
+    private final List<List<AddressBookChange>> commits = new ArrayList<>();
+    private List<AddressBookChange> pending = new ArrayList<>();
+
+    /** Number of commits in {@code commits} that are currently applied to the address book. */
+    private int appliedCount = 0;
+
+    /**
+     * Creates a {@code DeltaHistory} of {@code addressBook} that keeps at most {@code limit} undoable commits.
+     */
+    public DeltaHistory(AddressBook addressBook, int limit) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.limit = limit;
+    }
+
+    @Override
+    public void record(AddressBookChange change) {
+        requireNonNull(change);
+        pending.add(change);
+    }
+
+    @Override
+    public void commit() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        while (commits.size() > appliedCount) {
+            commits.remove(commits.size() - 1);
+        }
+        commits.add(pending);
+        pending = new ArrayList<>();
+
+        if (commits.size() > limit) {
+            commits.subList(0, commits.size() - limit).clear();
+        }
+        appliedCount = commits.size();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return appliedCount > 0;
+    }
+
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No previous state to undo to");
+        }
+        discardPending();
+        appliedCount--;
+        revertAll(commits.get(appliedCount));
+    }
+
+    @Override
+    public boolean canRedo() {
+        return appliedCount < commits.size();
+    }
+
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No next state to redo to");
+        }
+        discardPending();
+        for (AddressBookChange change : commits.get(appliedCount)) {
+            change.apply(addressBook);
+        }
+        appliedCount++;
+    }
+
+    /**
+     * Reverts uncommitted changes so that the address book is back at the last committed state.
+     */
+    private void discardPending() {
+        revertAll(pending);
+        pending = new ArrayList<>();
+    }
+
+    private void revertAll(List<AddressBookChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.PersistentPersonList;
+
+/**
+ * An {@code AddressBookHistory} that stores a snapshot of the person list for every commit.
+ * Snapshots share unchanged structure with one another, so each commit only costs memory for what changed.
+ */
+public class SnapshotHistory implements AddressBookHistory {
+
+    private final AddressBook addressBook;
+    private final int limit;
+    private final List<PersistentPersonList> states = new ArrayList<>();
+    private int pointer = -1;
+
+    /**
+     * Creates a {@code SnapshotHistory} of {@code addressBook} that keeps at most {@code limit} undoable commits.
+     */
+    public SnapshotHistory(AddressBook addressBook, int limit) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.limit = limit;
+    }
+
+    @Override
+    public void record(AddressBookChange change) {
+        // The snapshot taken on commit already reflects every change
+    }
+
+    @Override
+    public void commit() {
+        PersistentPersonList current = addressBook.snapshot();
+        if (pointer >= 0 && states.get(pointer) == current) {
+            // Nothing changed since the last commit, so there is no new state to undo to
+            return;
+        }
+        while (states.size() > pointer + 1) {
+            states.remove(states.size() - 1);
+        }
+        states.add(current);
+
+        // Keep the current state plus at most limit earlier states
+        int maxStates = limit + 1;
+        if (states.size() > maxStates) {
+            states.subList(0, states.size() - maxStates).clear();
+        }
+        pointer = states.size() - 1;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return pointer > 0;
+    }
+
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No previous state to undo to");
+        }
+        pointer--;
+        addressBook.restore(states.get(pointer));
+    }
+
+    @Override
+    public boolean canRedo() {
+        return pointer < states.size() - 1;
+    }
+
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No next state to redo to");
+        }
+        pointer++;
+        addressBook.restore(states.get(pointer));
+    }
+}
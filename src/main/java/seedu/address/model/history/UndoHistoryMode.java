@@ -0,0 +1,12 @@
+package seedu.address.model.history;
+
+/**
+ * The ways in which the undo/redo history of the address book can be recorded.
+ */
+public enum UndoHistoryMode {
+    /** Each commit stores a snapshot of the whole person list, sharing unchanged structure with earlier ones. */
+    SNAPSHOT,
+
+    /** Each commit stores the changes made since the previous commit, which are inverted to undo them. */
+    DELTA
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's company in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -18,6 +21,11 @@ public class Company {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\s.,&-]*";
 
+    private static final Validator VALIDATOR = Validator.firstThen(Validator.ALNUM,
+            Validator.ALNUM.or(Validator.WHITESPACE).or(Validator.anyOf(".,&-")));
+
+    private static final WeakInterner<Company> POOL = new WeakInterner<>(Company::new, company -> company.value);
+
     public final String value;
 
     /**
@@ -31,11 +39,21 @@ public class Company {
         value = company;
     }
 
+    /**
+     * Returns the pooled {@code Company} with value {@code company}, creating it if no such company is in use.
+     *
+     * @param company A valid company name.
+     */
+    public static Company of(String company) {
+        requireNonNull(company);
+        return POOL.intern(company);
+    }
+
     /**
      * Returns true if a given string is a valid company name.
      */
     public static boolean isValidCompany(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
     @Override
@@ -1,14 +1,11 @@
 package seedu.address.model.person;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.SearchUtil;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s fields contain any of the keywords given.
@@ -23,6 +20,7 @@ import seedu.address.model.tag.Tag;
 public class NameContainsKeywordsPredicate implements java.util.function.Predicate<Person> {
 
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
     /**
      * Constructs a predicate from the given list of keywords.
@@ -31,89 +29,37 @@ public class NameContainsKeywordsPredicate implements java.util.function.Predica
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = Objects.requireNonNull(keywords);
-    }
-
-    @Override
-    public boolean test(Person person) {
-        // If no keywords provided, treat as no match.
-        if (keywords == null || keywords.isEmpty()) {
-            return false;
-        }
-
-        // For each keyword, see if it matches any of the person's searchable fields.
-        return keywords.stream()
+        this.normalizedKeywords = keywords.stream()
                 .filter(Objects::nonNull)
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
-                .anyMatch(keyword -> matchesAnyField(person, keyword));
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Returns true if the keyword matches any supported field of the person.
-     *
-     * @param person the person to check; must be non-null.
-     * @param keyword the keyword to search for; must be non-null, non-empty.
+     * Returns the keywords this predicate was constructed with.
      */
-    private boolean matchesAnyField(Person person, String keyword) {
-        Objects.requireNonNull(person);
-        Objects.requireNonNull(keyword);
-
-        // Name
-        if (SearchUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)) {
-            return true;
-        }
-
-        // Phone
-        if (SearchUtil.containsSubstringIgnoreCase(person.getPhone().value, keyword)) {
-            return true;
-        }
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
 
-        // Email
-        if (person.getEmail() != null && SearchUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword)) {
-            return true;
-        }
+    @Override
+    public boolean test(Person person) {
+        Objects.requireNonNull(person);
 
-        // Address
-        if (person.getAddress() != null && SearchUtil.containsSubstringIgnoreCase(person.getAddress().value, keyword)) {
-            return true;
+        // If no keywords provided, treat as no match.
+        if (normalizedKeywords.isEmpty()) {
+            return false;
         }
 
-        // Priority
-        if (person.getPriority() != null) {
-            String priorityString = person.getPriority().toString();
-            if (SearchUtil.containsSubstringIgnoreCase(priorityString, keyword)) {
+        // Keywords contain no whitespace, so they cannot match across the line breaks between fields.
+        String searchText = person.getSearchText();
+        for (String keyword : normalizedKeywords) {
+            if (searchText.contains(keyword)) {
                 return true;
             }
         }
-
-        // Tags (any tag containing the substring)
-        Set<Tag> tags = person.getTags();
-        if (tags != null && tags.stream()
-                .map(tag -> tag.tagName)
-                .anyMatch(tagName -> SearchUtil.containsSubstringIgnoreCase(tagName, keyword))) {
-            return true;
-        }
-
-        // Company implementation pull request not yet approved
-        try {
-            Method getCompanyMethod = person.getClass().getMethod("getCompany");
-            Object companyObj = getCompanyMethod.invoke(person);
-            if (companyObj != null) {
-                String companyString = null;
-                try {
-                    Method valueMethod = companyObj.getClass().getMethod("toString");
-                    companyString = (String) valueMethod.invoke(companyObj);
-                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
-                    System.out.println("");
-                }
-                if (companyString != null && SearchUtil.containsSubstringIgnoreCase(companyString, keyword)) {
-                    return true;
-                }
-            }
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
-            System.out.println("");
-        }
-
         return false;
     }
 
@@ -7,6 +7,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Person's note/remark in the address book.
  * Immutable: value and optional lastEdited timestamp.
@@ -22,6 +24,9 @@ public class Note {
      */
     public static final String VALIDATION_REGEX = "([^\\s].*|-)"; // allow "-" too
 
+    private static final Validator VALIDATOR = Validator.firstThen(Validator.WHITESPACE.negate(),
+            Validator.NOT_LINE_TERMINATOR);
+
     private static final DateTimeFormatter DISPLAY_FORMATTER =
             DateTimeFormatter.ofPattern("dd MMM yyyy, HH:mm");
 
@@ -69,7 +74,7 @@ public class Note {
      * Returns true if a given string is a valid note.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
     /**
@@ -0,0 +1,658 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable, ordered list of persons that shares structure between versions.
+ *
+ * Persons are kept in a B-tree: leaves hold chunks of up to {@link #CHUNK_CAPACITY} persons and branches hold up to
+ * {@link #BRANCH_CAPACITY} children together with their cumulative sizes, so a person is located by one binary
+ * search per level. Every update returns a new list that copies only the nodes on the path from the root to the
+ * leaf it touches, which is O(log N), so older versions stay valid and keep sharing every untouched node.
+ * This makes it cheap to retain many versions of a large address book, e.g. for undo/redo history.
+ */
+public final class PersistentPersonList implements Iterable<Person> {
+
+    static final int CHUNK_CAPACITY = 64;
+    static final int BRANCH_CAPACITY = 32;
+
+    private static final PersistentPersonList EMPTY = new PersistentPersonList(new Leaf(new Person[0]));
+
+    private final Node root;
+
+    private PersistentPersonList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static PersistentPersonList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list holding {@code persons} in the same order.
+     */
+    public static PersistentPersonList of(List<Person> persons) {
+        requireNonNull(persons);
+        if (persons.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Node> level = new ArrayList<>();
+        for (int from = 0; from < persons.size(); from += CHUNK_CAPACITY) {
+            int to = Math.min(from + CHUNK_CAPACITY, persons.size());
+            level.add(new Leaf(persons.subList(from, to).toArray(new Person[0])));
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (int from = 0; from < level.size(); from += BRANCH_CAPACITY) {
+                int to = Math.min(from + BRANCH_CAPACITY, level.size());
+                parents.add(new Branch(level.subList(from, to).toArray(new Node[0])));
+            }
+            level = parents;
+        }
+        return new PersistentPersonList(level.get(0));
+    }
+
+    public int size() {
+        return root.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the person at {@code index}.
+     */
+    public Person get(int index) {
+        checkIndex(index);
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.childAt(index);
+            index -= branch.startOf(child);
+            node = branch.children[child];
+        }
+        return ((Leaf) node).persons[index];
+    }
+
+    /**
+     * Returns a new list with {@code person} appended to the end of this list.
+     */
+    public PersistentPersonList append(Person person) {
+        return insert(size(), person);
+    }
+
+    /**
+     * Returns a new list with {@code person} inserted at {@code index}, shifting later persons back by one.
+     */
+    public PersistentPersonList insert(int index, Person person) {
+        requireNonNull(person);
+        if (index != size()) {
+            checkIndex(index);
+        }
+        Node[] replaced = root.insert(index, person);
+        return new PersistentPersonList(replaced.length == 1 ? replaced[0] : new Branch(replaced));
+    }
+
+    /**
+     * Returns a new list with the person at {@code index} replaced by {@code person}.
+     */
+    public PersistentPersonList set(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index);
+        return new PersistentPersonList(root.set(index, person));
+    }
+
+    /**
+     * Returns a new list with the person at {@code index} removed.
+     */
+    public PersistentPersonList remove(int index) {
+        checkIndex(index);
+        Node newRoot = root.remove(index);
+        // Drop the levels left with a single child
+        while (newRoot instanceof Branch && ((Branch) newRoot).children.length == 1) {
+            newRoot = ((Branch) newRoot).children[0];
+        }
+        return newRoot.size() == 0 ? EMPTY : new PersistentPersonList(newRoot);
+    }
+
+    /**
+     * Returns the persons in this list as a new, modifiable {@code List}.
+     */
+    public List<Person> toList() {
+        return range(0, size());
+    }
+
+    /**
+     * Returns the smallest single splice that turns {@code older} into this list.
+     * Subtrees shared with {@code older} are skipped without looking at their persons, so when this list was derived
+     * from {@code older} by a few updates the cost is proportional to the height of the tree and the number of
+     * changed persons.
+     */
+    public Splice changesSince(PersistentPersonList older) {
+        requireNonNull(older);
+
+        int maxShared = Math.min(size(), older.size());
+        int leadingPersons = countSharedPersons(root, older.root, false, maxShared);
+        int trailingPersons = countSharedPersons(root, older.root, true, maxShared - leadingPersons);
+
+        List<Person> olderMiddle = older.range(leadingPersons, older.size() - trailingPersons);
+        List<Person> newerMiddle = range(leadingPersons, size() - trailingPersons);
+
+        // Narrow the differing region down to the persons that were actually replaced
+        int start = 0;
+        while (start < olderMiddle.size() && start < newerMiddle.size()
+                && olderMiddle.get(start) == newerMiddle.get(start)) {
+            start++;
+        }
+        int olderEnd = olderMiddle.size();
+        int newerEnd = newerMiddle.size();
+        while (olderEnd > start && newerEnd > start && olderMiddle.get(olderEnd - 1) == newerMiddle.get(newerEnd - 1)) {
+            olderEnd--;
+            newerEnd--;
+        }
+
+        return new Splice(leadingPersons + start, olderEnd - start,
+                new ArrayList<>(newerMiddle.subList(start, newerEnd)));
+    }
+
+    /**
+     * Returns the persons from {@code from} (inclusive) to {@code to} (exclusive) as a new list.
+     */
+    private List<Person> range(int from, int to) {
+        List<Person> persons = new ArrayList<>(to - from);
+        root.addTo(persons, from, to);
+        return persons;
+    }
+
+    /**
+     * Returns how many persons at the start of {@code newer} and {@code older}, or at the end if {@code fromEnd},
+     * are the same, up to {@code limit}. Subtrees shared by both are counted without being visited, and only leaves
+     * that differ are compared person by person. The count may fall short where the two trees split their persons
+     * into leaves differently.
+     */
+    private static int countSharedPersons(Node newer, Node older, boolean fromEnd, int limit) {
+        Cursor newerCursor = new Cursor(newer, fromEnd);
+        Cursor olderCursor = new Cursor(older, fromEnd);
+        int shared = 0;
+        while (shared < limit && newerCursor.node != null && olderCursor.node != null) {
+            Node newerNode = newerCursor.node;
+            Node olderNode = olderCursor.node;
+            if (newerNode == olderNode) {
+                shared += newerNode.size();
+                newerCursor.next();
+                olderCursor.next();
+            } else if (newerNode instanceof Branch
+                    && (olderNode instanceof Leaf || newerNode.size() >= olderNode.size())) {
+                newerCursor.descend();
+            } else if (olderNode instanceof Branch) {
+                olderCursor.descend();
+            } else {
+                Person[] newerPersons = ((Leaf) newerNode).persons;
+                Person[] olderPersons = ((Leaf) olderNode).persons;
+                int same = 0;
+                while (same < newerPersons.length && same < olderPersons.length
+                        && newerPersons[fromEnd ? newerPersons.length - 1 - same : same]
+                                == olderPersons[fromEnd ? olderPersons.length - 1 - same : same]) {
+                    same++;
+                }
+                shared += same;
+                if (same < newerPersons.length || same < olderPersons.length) {
+                    break;
+                }
+                newerCursor.next();
+                olderCursor.next();
+            }
+        }
+        return Math.min(shared, limit);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> pending = new ArrayDeque<>(List.of(root));
+            private Person[] leaf = new Person[0];
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (offset >= leaf.length) {
+                    if (pending.isEmpty()) {
+                        return false;
+                    }
+                    Node node = pending.pop();
+                    if (node instanceof Leaf) {
+                        leaf = ((Leaf) node).persons;
+                        offset = 0;
+                    } else {
+                        Node[] children = ((Branch) node).children;
+                        for (int i = children.length - 1; i >= 0; i--) {
+                            pending.push(children[i]);
+                        }
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Person next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return leaf[offset++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentPersonList)) {
+            return false;
+        }
+
+        PersistentPersonList otherList = (PersistentPersonList) other;
+        return size() == otherList.size() && toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * A node of the tree. All leaves are at the same depth.
+     */
+    private abstract static class Node {
+        abstract int size();
+
+        abstract boolean isUnderfull();
+
+        abstract Node set(int index, Person person);
+
+        /**
+         * Returns this node with {@code person} inserted at {@code index}, as two nodes if it had to be split.
+         */
+        abstract Node[] insert(int index, Person person);
+
+        /**
+         * Returns this node with the person at {@code index} removed. The result may be empty or underfull.
+         */
+        abstract Node remove(int index);
+
+        /**
+         * Adds the persons from {@code from} (inclusive) to {@code to} (exclusive) of this node to {@code persons}.
+         */
+        abstract void addTo(List<Person> persons, int from, int to);
+    }
+
+    /**
+     * A chunk of persons.
+     */
+    private static final class Leaf extends Node {
+        private final Person[] persons;
+
+        Leaf(Person[] persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        int size() {
+            return persons.length;
+        }
+
+        @Override
+        boolean isUnderfull() {
+            return persons.length < CHUNK_CAPACITY / 4;
+        }
+
+        @Override
+        Node set(int index, Person person) {
+            Person[] replaced = persons.clone();
+            replaced[index] = person;
+            return new Leaf(replaced);
+        }
+
+        @Override
+        Node[] insert(int index, Person person) {
+            if (persons.length == CHUNK_CAPACITY && index == persons.length) {
+                // Start a new leaf, so that lists built by appending keep their leaves full
+                return new Node[] {this, new Leaf(new Person[] {person})};
+            }
+
+            Person[] grown = new Person[persons.length + 1];
+            System.arraycopy(persons, 0, grown, 0, index);
+            grown[index] = person;
+            System.arraycopy(persons, index, grown, index + 1, persons.length - index);
+            return splitIfFull(grown);
+        }
+
+        @Override
+        Node remove(int index) {
+            Person[] shrunk = new Person[persons.length - 1];
+            System.arraycopy(persons, 0, shrunk, 0, index);
+            System.arraycopy(persons, index + 1, shrunk, index, persons.length - index - 1);
+            return new Leaf(shrunk);
+        }
+
+        @Override
+        void addTo(List<Person> persons, int from, int to) {
+            for (int i = from; i < to; i++) {
+                persons.add(this.persons[i]);
+            }
+        }
+
+        /**
+         * Returns a leaf holding {@code persons}, or two leaves holding half each if they do not fit in one.
+         */
+        static Node[] splitIfFull(Person[] persons) {
+            if (persons.length <= CHUNK_CAPACITY) {
+                return new Node[] {new Leaf(persons)};
+            }
+            int half = persons.length / 2;
+            return new Node[] {new Leaf(Arrays.copyOfRange(persons, 0, half)),
+                new Leaf(Arrays.copyOfRange(persons, half, persons.length))};
+        }
+    }
+
+    /**
+     * An inner node, which holds the cumulative sizes of its children to find the child holding an index.
+     */
+    private static final class Branch extends Node {
+        private final Node[] children;
+        // ends[i] is the number of persons in children[0..i]
+        private final int[] ends;
+
+        Branch(Node[] children) {
+            this.children = children;
+            this.ends = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i].size();
+                ends[i] = total;
+            }
+        }
+
+        @Override
+        int size() {
+            return ends.length == 0 ? 0 : ends[ends.length - 1];
+        }
+
+        @Override
+        boolean isUnderfull() {
+            return children.length < BRANCH_CAPACITY / 4;
+        }
+
+        /**
+         * Returns the child holding the person at {@code index}, or the last child if {@code index} is the size.
+         */
+        int childAt(int index) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ends[mid] > index) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        int startOf(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        @Override
+        Node set(int index, Person person) {
+            int child = childAt(index);
+            return new Branch(replaceChildren(child, 1, children[child].set(index - startOf(child), person)));
+        }
+
+        @Override
+        Node[] insert(int index, Person person) {
+            int child = childAt(index);
+            Node[] replaced = children[child].insert(index - startOf(child), person);
+            if (children.length == BRANCH_CAPACITY && replaced.length == 2 && replaced[0] == children[child]
+                    && child == children.length - 1) {
+                // The last child started a new node at the end, so start a new branch for it as well
+                return new Node[] {this, new Branch(new Node[] {replaced[1]})};
+            }
+            return splitIfFull(replaceChildren(child, 1, replaced));
+        }
+
+        @Override
+        Node remove(int index) {
+            int child = childAt(index);
+            Node shrunk = children[child].remove(index - startOf(child));
+            if (shrunk.size() == 0) {
+                return new Branch(replaceChildren(child, 1));
+            }
+            if (!shrunk.isUnderfull() || children.length == 1) {
+                return new Branch(replaceChildren(child, 1, shrunk));
+            }
+
+            // Merge the underfull child with a neighbour, splitting them again if they do not fit in one node
+            int first = child > 0 ? child - 1 : child;
+            Node left = first == child ? shrunk : children[first];
+            Node right = first == child ? children[child + 1] : shrunk;
+            return new Branch(replaceChildren(first, 2, merge(left, right)));
+        }
+
+        @Override
+        void addTo(List<Person> persons, int from, int to) {
+            for (int i = childAt(from); i < children.length && startOf(i) < to; i++) {
+                int start = startOf(i);
+                children[i].addTo(persons, Math.max(from - start, 0), Math.min(to, ends[i]) - start);
+            }
+        }
+
+        /**
+         * Returns the children with the {@code removedCount} children from {@code from} replaced by {@code inserted}.
+         */
+        private Node[] replaceChildren(int from, int removedCount, Node... inserted) {
+            Node[] replaced = new Node[children.length - removedCount + inserted.length];
+            System.arraycopy(children, 0, replaced, 0, from);
+            System.arraycopy(inserted, 0, replaced, from, inserted.length);
+            System.arraycopy(children, from + removedCount, replaced, from + inserted.length,
+                    children.length - from - removedCount);
+            return replaced;
+        }
+
+        /**
+         * Returns the nodes holding {@code left} followed by {@code right}, which are neighbours at the same depth.
+         */
+        private static Node[] merge(Node left, Node right) {
+            if (left instanceof Leaf) {
+                return Leaf.splitIfFull(concat(((Leaf) left).persons, ((Leaf) right).persons));
+            }
+            return splitIfFull(concat(((Branch) left).children, ((Branch) right).children));
+        }
+
+        /**
+         * Returns a branch holding {@code children}, or two branches holding half each if they do not fit in one.
+         */
+        private static Node[] splitIfFull(Node[] children) {
+            if (children.length <= BRANCH_CAPACITY) {
+                return new Node[] {new Branch(children)};
+            }
+            int half = children.length / 2;
+            return new Node[] {new Branch(Arrays.copyOfRange(children, 0, half)),
+                new Branch(Arrays.copyOfRange(children, half, children.length))};
+        }
+
+        private static <T> T[] concat(T[] first, T[] second) {
+            T[] joined = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, joined, first.length, second.length);
+            return joined;
+        }
+    }
+
+    /**
+     * Walks the subtrees of a tree in order, from the start or from the end, descending only where asked to.
+     */
+    private static final class Cursor {
+        private final boolean fromEnd;
+        private final Deque<Branch> parents = new ArrayDeque<>();
+        private final Deque<Integer> childIndices = new ArrayDeque<>();
+        // The current subtree, or null once the whole tree has been walked
+        private Node node;
+
+        Cursor(Node root, boolean fromEnd) {
+            this.fromEnd = fromEnd;
+            this.node = root.size() == 0 ? null : root;
+        }
+
+        /**
+         * Moves to the first (or last) child of the current subtree, which must be a branch.
+         */
+        void descend() {
+            Branch branch = (Branch) node;
+            int child = fromEnd ? branch.children.length - 1 : 0;
+            parents.push(branch);
+            childIndices.push(child);
+            node = branch.children[child];
+        }
+
+        /**
+         * Moves past the current subtree to the subtree that follows (or precedes) it.
+         */
+        void next() {
+            while (!parents.isEmpty()) {
+                int child = childIndices.pop() + (fromEnd ? -1 : 1);
+                Branch parent = parents.peek();
+                if (child >= 0 && child < parent.children.length) {
+                    childIndices.push(child);
+                    node = parent.children[child];
+                    return;
+                }
+                parents.pop();
+            }
+            node = null;
+        }
+    }
+
+    /**
+     * A change to a list of persons: {@code removedCount} persons starting at {@code index} are replaced by
+     * the {@code inserted} persons.
+     */
+    public static final class Splice {
+        private final int index;
+        private final int removedCount;
+        private final List<Person> inserted;
+
+        /**
+         * Creates a splice that replaces {@code removedCount} persons starting at {@code index} with {@code inserted}.
+         */
+        public Splice(int index, int removedCount, List<Person> inserted) {
+            requireNonNull(inserted);
+            this.index = index;
+            this.removedCount = removedCount;
+            this.inserted = Collections.unmodifiableList(inserted);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        public List<Person> getInserted() {
+            return inserted;
+        }
+
+        /**
+         * Returns true if this splice does not change anything.
+         */
+        public boolean isEmpty() {
+            return removedCount == 0 && inserted.isEmpty();
+        }
+
+        /**
+         * Returns the number of persons removed or inserted by this splice.
+         */
+        public int size() {
+            return removedCount + inserted.size();
+        }
+
+        /**
+         * Applies this splice to {@code persons}.
+         *
+         * @throws IndexOutOfBoundsException if the removed range is not within {@code persons}.
+         */
+        public void applyTo(List<Person> persons) {
+            requireNonNull(persons);
+            if (index < 0 || removedCount < 0 || index + removedCount > persons.size()) {
+                throw new IndexOutOfBoundsException("Splice at " + index + " removing " + removedCount
+                        + " persons does not fit a list of " + persons.size());
+            }
+            persons.subList(index, index + removedCount).clear();
+            persons.addAll(index, inserted);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Splice)) {
+                return false;
+            }
+
+            Splice otherSplice = (Splice) other;
+            return index == otherSplice.index
+                    && removedCount == otherSplice.removedCount
+                    && inserted.equals(otherSplice.inserted);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removedCount, inserted);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("index", index)
+                    .add("removedCount", removedCount)
+                    .add("inserted", inserted)
+                    .toString();
+        }
+    }
+}
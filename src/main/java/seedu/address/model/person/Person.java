@@ -2,20 +2,31 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The normalized forms of the fields used for sorting and searching are computed the first time they are needed and
+ * then cached, so repeated sorts and searches compare them without allocating.
  */
 public class Person {
 
+    /**
+     * Orders strings ignoring case, like {@link String#CASE_INSENSITIVE_ORDER} but aware of accents. Each thread has
+     * its own, as collators are not thread-safe and persons are created on several threads while loading.
+     */
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(Person::createCollator);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,7 +37,15 @@ public class Person {
     private final Company company;
     private final Note note;
     private final Priority priority;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Normalized fields, computed when first needed
+    private String searchText;
+    private CollationKey nameKey;
+    private CollationKey emailKey;
+    private CollationKey addressKey;
+    private CollationKey companyKey;
+    private CollationKey minimalTagKey;
 
     /**
      * Every field must be present and not null except email, address, company, note, and priority.
@@ -55,7 +74,7 @@ public class Person {
         this.company = company;
         this.note = note;
         this.priority = priority;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Name getName() {
@@ -90,8 +109,76 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the lower-cased searchable values of this person, separated by line breaks, so that a keyword without
+     * whitespace is contained in it exactly when it is contained in one of the values.
+     *
+     * @see PersonSearchIndex#searchableValues(Person)
+     */
+    public String getSearchText() {
+        if (searchText == null) {
+            searchText = String.join("\n", PersonSearchIndex.searchableValues(this)).toLowerCase();
+        }
+        return searchText;
+    }
+
+    /**
+     * Returns the collation key of the name, which orders names ignoring case.
+     */
+    public CollationKey getNameKey() {
+        if (nameKey == null) {
+            nameKey = collationKeyOf(name.fullName);
+        }
+        return nameKey;
+    }
+
+    /**
+     * Returns the collation key of the email, or null if there is no email.
+     */
+    public CollationKey getEmailKey() {
+        if (emailKey == null && email != null) {
+            emailKey = collationKeyOf(email.value);
+        }
+        return emailKey;
+    }
+
+    /**
+     * Returns the collation key of the address, or null if there is no address.
+     */
+    public CollationKey getAddressKey() {
+        if (addressKey == null && address != null) {
+            addressKey = collationKeyOf(address.value);
+        }
+        return addressKey;
+    }
+
+    /**
+     * Returns the collation key of the company, or null if there is no company.
+     */
+    public CollationKey getCompanyKey() {
+        if (companyKey == null && company != null) {
+            companyKey = collationKeyOf(company.value);
+        }
+        return companyKey;
+    }
+
+    /**
+     * Returns the smallest collation key of the tag names, or null if there are no tags.
+     */
+    public CollationKey getMinimalTagKey() {
+        if (minimalTagKey == null) {
+            for (Tag tag : tags) {
+                CollationKey key = collationKeyOf(tag.tagName);
+                if (minimalTagKey == null || key.compareTo(minimalTagKey) < 0) {
+                    minimalTagKey = key;
+                }
+            }
+        }
+        return minimalTagKey;
     }
 
     /**
@@ -139,6 +226,16 @@ public class Person {
         return Objects.hash(name, phone, email, address, company, note, priority, tags);
     }
 
+    private static CollationKey collationKeyOf(String value) {
+        return COLLATOR.get().getCollationKey(value);
+    }
+
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
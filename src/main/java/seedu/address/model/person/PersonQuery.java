@@ -0,0 +1,251 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Tests that a {@code Person} matches a query made of terms on single fields.
+ *
+ * A query is a disjunction of clauses, and each clause is a conjunction of terms, so a person matches when every term
+ * of at least one clause matches. A term matches when its field contains its value as a case-insensitive substring,
+ * except that tags and priorities must be equal to the value, and terms on {@link Field#ANY} match like
+ * {@link NameContainsKeywordsPredicate}. A negated term matches exactly the persons its plain term does not.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    public static final String MESSAGE_NO_CLAUSES = "A query must have at least one clause, and every clause a term.";
+
+    /**
+     * The fields a term can look at.
+     */
+    public enum Field {
+        ANY, NAME, PHONE, EMAIL, ADDRESS, COMPANY, TAG, PRIORITY
+    }
+
+    private final List<List<Term>> clauses;
+
+    /**
+     * Creates a query matching persons that match every term of at least one of {@code clauses}.
+     */
+    public PersonQuery(List<List<Term>> clauses) {
+        requireNonNull(clauses);
+        checkArgument(!clauses.isEmpty() && clauses.stream().noneMatch(List::isEmpty), MESSAGE_NO_CLAUSES);
+        this.clauses = clauses.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns a query matching the persons that {@code new NameContainsKeywordsPredicate(keywords)} matches.
+     */
+    public static PersonQuery anyOf(List<String> keywords) {
+        return new PersonQuery(List.of(List.of(Term.anyOf(keywords))));
+    }
+
+    /**
+     * Returns the clauses of this query, any of which a person must match.
+     */
+    public List<List<Term>> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        for (List<Term> clause : clauses) {
+            if (clause.stream().allMatch(term -> term.test(person))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return clauses.equals(otherQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clauses", clauses)
+                .toString();
+    }
+
+    /**
+     * A condition on one field of a person.
+     */
+    public static class Term implements Predicate<Person> {
+        private final Field field;
+        private final String value;
+        private final NameContainsKeywordsPredicate anyFieldPredicate;
+        private final Priority.Level level;
+        private final boolean isNegated;
+
+        private Term(Field field, String value, NameContainsKeywordsPredicate anyFieldPredicate,
+                Priority.Level level, boolean isNegated) {
+            this.field = field;
+            this.value = value;
+            this.anyFieldPredicate = anyFieldPredicate;
+            this.level = level;
+            this.isNegated = isNegated;
+        }
+
+        /**
+         * Returns a term matching persons with any of {@code keywords} in any field.
+         */
+        public static Term anyOf(List<String> keywords) {
+            requireNonNull(keywords);
+            return new Term(Field.ANY, null, new NameContainsKeywordsPredicate(keywords), null, false);
+        }
+
+        /**
+         * Returns a term matching persons whose {@code field} contains or, for tags and priorities, equals
+         * {@code value}. A priority value must be valid as declared in {@link Priority#isValidPriority(String)}, and a
+         * tag value as declared in {@link Tag#isValidTagName(String)}.
+         */
+        public static Term of(Field field, String value) {
+            requireAllNonNull(field, value);
+            checkArgument(field != Field.ANY, "Use anyOf for terms on any field");
+            checkArgument(!value.isEmpty(), "Term value must not be empty");
+            if (field == Field.PRIORITY) {
+                Priority.Level level = Priority.of(value).level;
+                return new Term(field, level.getDisplayName(), null, level, false);
+            }
+            if (field == Field.TAG) {
+                checkArgument(Tag.isValidTagName(value), Tag.MESSAGE_CONSTRAINTS);
+            }
+            return new Term(field, value.toLowerCase(Locale.ROOT), null, null, false);
+        }
+
+        /**
+         * Returns a term matching exactly the persons this term does not match.
+         */
+        public Term negate() {
+            return new Term(field, value, anyFieldPredicate, level, !isNegated);
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * Returns the lower-cased value of this term, or the display name of its priority level for priority terms.
+         * Terms on any field have no single value and return null.
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the keywords of a term on any field, or an empty list for other terms.
+         */
+        public List<String> getKeywords() {
+            return anyFieldPredicate == null ? List.of() : anyFieldPredicate.getKeywords();
+        }
+
+        public Priority.Level getLevel() {
+            return level;
+        }
+
+        public boolean isNegated() {
+            return isNegated;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches(person) != isNegated;
+        }
+
+        private boolean matches(Person person) {
+            switch (field) {
+            case ANY:
+                return anyFieldPredicate.test(person);
+            case NAME:
+                return containsValue(person.getName().fullName);
+            case PHONE:
+                return containsValue(person.getPhone().value);
+            case EMAIL:
+                return person.getEmail() != null && containsValue(person.getEmail().value);
+            case ADDRESS:
+                return person.getAddress() != null && containsValue(person.getAddress().value);
+            case COMPANY:
+                return person.getCompany() != null && containsValue(person.getCompany().value);
+            case TAG:
+                return person.getTags().containsAnyId(TagDictionary.idsIgnoringCase(value));
+            case PRIORITY:
+                return person.getPriority() != null && person.getPriority().level == level;
+            default:
+                throw new IllegalStateException("Unsupported field: " + field);
+            }
+        }
+
+        /**
+         * Returns true if {@code text} contains the value of this term, ignoring case, without copying {@code text}.
+         */
+        private boolean containsValue(String text) {
+            for (int i = 0; i + value.length() <= text.length(); i++) {
+                if (text.regionMatches(true, i, value, 0, value.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Term)) {
+                return false;
+            }
+
+            Term otherTerm = (Term) other;
+            return field == otherTerm.field
+                    && Objects.equals(value, otherTerm.value)
+                    && Objects.equals(anyFieldPredicate, otherTerm.anyFieldPredicate)
+                    && isNegated == otherTerm.isNegated;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, value, getKeywords(), isNegated);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("field", field)
+                    .add("value", field == Field.ANY ? getKeywords() : value)
+                    .add("isNegated", isNegated)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * An inverted index from lower-cased character trigrams to the persons whose searchable fields contain them.
+ *
+ * Every keyword of at least {@link #GRAM_LENGTH} characters that is a case-insensitive substring of some field must
+ * have all of its trigrams in that field, so intersecting the posting lists of a keyword's trigrams yields a small
+ * superset of the matching persons. Callers still verify each candidate against the real predicate.
+ *
+ * Each indexed person is given a small integer slot. Removing a person frees its slot but leaves its old postings in
+ * place; stale postings can only produce extra candidates, and the index is rebuilt once they outnumber live persons.
+ * Candidates are returned as a list of persons taken at the time of the query, so callers never hold on to slots.
+ *
+ * The slots of the persons with each tag and each priority level are also kept, exactly, as one bitmap per tag id and
+ * per level, so that field-scoped {@link PersonQuery} terms on tags and priorities are answered without looking at
+ * any person, and a query for several tags is answered by intersecting their bitmaps.
+ */
+public class PersonSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    /** {@code tagBuckets[id]} holds the slots of the persons with the tag of that id, or is null if there are none. */
+    private BitSet[] tagBuckets = new BitSet[0];
+    private final Map<Priority.Level, BitSet> priorityBuckets = new EnumMap<>(Priority.Level.class);
+    private final List<Person> slots = new ArrayList<>();
+    private final Map<Person, Integer> slotOf = new IdentityHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int removedSinceRebuild = 0;
+
+    /**
+     * Returns the values of {@code person} that are searched by the {@code find} command.
+     */
+    public static List<String> searchableValues(Person person) {
+        requireNonNull(person);
+        List<String> values = new ArrayList<>();
+        values.add(person.getName().fullName);
+        values.add(person.getPhone().value);
+        if (person.getEmail() != null) {
+            values.add(person.getEmail().value);
+        }
+        if (person.getAddress() != null) {
+            values.add(person.getAddress().value);
+        }
+        if (person.getCompany() != null) {
+            values.add(person.getCompany().value);
+        }
+        if (person.getPriority() != null) {
+            values.add(person.getPriority().toString());
+        }
+        for (Tag tag : person.getTags()) {
+            values.add(tag.tagName);
+        }
+        return values;
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        if (slot == slots.size()) {
+            slots.add(person);
+        } else {
+            slots.set(slot, person);
+        }
+        slotOf.put(person, slot);
+
+        for (String gram : gramsOf(person)) {
+            postings.computeIfAbsent(gram, unused -> new Posting()).add(slot);
+        }
+        for (int tagId : person.getTags().toIdArray()) {
+            if (tagId >= tagBuckets.length) {
+                tagBuckets = Arrays.copyOf(tagBuckets, Math.max(tagId + 1, tagBuckets.length * 2));
+            }
+            if (tagBuckets[tagId] == null) {
+                tagBuckets[tagId] = new BitSet();
+            }
+            tagBuckets[tagId].set(slot);
+        }
+        if (person.getPriority() != null) {
+            priorityBuckets.computeIfAbsent(person.getPriority().level, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if {@code person} is not indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotOf.remove(person);
+        if (slot == null) {
+            return;
+        }
+        slots.set(slot, null);
+        freeSlots.push(slot);
+        for (int tagId : person.getTags().toIdArray()) {
+            tagBuckets[tagId].clear(slot);
+        }
+        if (person.getPriority() != null) {
+            priorityBuckets.get(person.getPriority().level).clear(slot);
+        }
+
+        removedSinceRebuild++;
+        if (removedSinceRebuild > slotOf.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        tagBuckets = new BitSet[0];
+        priorityBuckets.clear();
+        slots.clear();
+        slotOf.clear();
+        freeSlots.clear();
+        removedSinceRebuild = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed persons that may match {@code query}, in no particular order, or an empty Optional if some
+     * clause of the query cannot be narrowed down, in which case every person may match.
+     *
+     * Each clause of the query is planned on its own. The lookups that its plain terms allow are ordered by the number
+     * of persons each is estimated to return, and run from the most selective one until no candidate is left, so a
+     * rare tag or priority narrows the search before any trigram posting is read. Tag and priority terms are looked
+     * up exactly, and substring terms of at least {@link #GRAM_LENGTH} characters through their trigrams. Negated and
+     * shorter terms are only checked by the query itself. Only the slots of the planned candidates are visited.
+     */
+    public Optional<List<Person>> findCandidates(PersonQuery query) {
+        requireNonNull(query);
+        return candidateSlotsMatching(query).map(this::personsIn);
+    }
+
+    private Optional<BitSet> candidateSlotsMatching(PersonQuery query) {
+        BitSet candidates = new BitSet(slots.size());
+        for (List<PersonQuery.Term> clause : query.getClauses()) {
+            Optional<BitSet> clauseCandidates = candidatesForClause(clause);
+            if (clauseCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.or(clauseCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the persons in the slots in {@code candidateSlots}, skipping free slots left by stale postings.
+     */
+    private List<Person> personsIn(BitSet candidateSlots) {
+        List<Person> persons = new ArrayList<>();
+        for (int slot = candidateSlots.nextSetBit(0); slot >= 0 && slot < slots.size();
+                slot = candidateSlots.nextSetBit(slot + 1)) {
+            Person person = slots.get(slot);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    private Optional<BitSet> candidatesForClause(List<PersonQuery.Term> clause) {
+        List<Lookup> lookups = new ArrayList<>();
+        for (PersonQuery.Term term : clause) {
+            lookupFor(term).ifPresent(lookups::add);
+        }
+        if (lookups.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lookups.sort(Comparator.comparingInt(lookup -> lookup.estimate));
+        BitSet result = lookups.get(0).run();
+        for (int i = 1; i < lookups.size() && !result.isEmpty(); i++) {
+            result.and(lookups.get(i).run());
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Returns the lookup of the persons that may match {@code term}, or an empty Optional if the index cannot narrow
+     * them down.
+     */
+    private Optional<Lookup> lookupFor(PersonQuery.Term term) {
+        if (term.isNegated()) {
+            return Optional.empty();
+        }
+        switch (term.getField()) {
+        case ANY:
+            return lookupForKeywords(term.getKeywords());
+        case TAG:
+            return Optional.of(lookupForTags(TagDictionary.idsIgnoringCase(term.getValue())));
+        case PRIORITY:
+            return Optional.of(lookupOfBucket(priorityBuckets.get(term.getLevel())));
+        default:
+            String value = term.getValue();
+            if (value.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            return Optional.of(new Lookup(estimateFor(value), () -> candidatesFor(value)));
+        }
+    }
+
+    /**
+     * Returns the lookup of the persons that may contain any of {@code keywords}, or an empty Optional if one of them
+     * is too short to be looked up.
+     */
+    private Optional<Lookup> lookupForKeywords(Collection<String> keywords) {
+        List<String> normalizedKeywords = new ArrayList<>();
+        int estimate = 0;
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.trim().isEmpty()) {
+                continue;
+            }
+            String normalized = keyword.trim().toLowerCase();
+            if (normalized.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            normalizedKeywords.add(normalized);
+            estimate += estimateFor(normalized);
+        }
+
+        return Optional.of(new Lookup(estimate, () -> {
+            BitSet candidates = new BitSet(slots.size());
+            for (String normalized : normalizedKeywords) {
+                candidates.or(candidatesFor(normalized));
+            }
+            return candidates;
+        }));
+    }
+
+    /**
+     * Returns the lookup of the persons with any of the tags with ids {@code tagIds}.
+     */
+    private Lookup lookupForTags(int[] tagIds) {
+        List<BitSet> buckets = new ArrayList<>();
+        int estimate = 0;
+        for (int tagId : tagIds) {
+            if (tagId < tagBuckets.length && tagBuckets[tagId] != null) {
+                buckets.add(tagBuckets[tagId]);
+                estimate += tagBuckets[tagId].cardinality();
+            }
+        }
+        if (buckets.size() == 1) {
+            return lookupOfBucket(buckets.get(0));
+        }
+        return new Lookup(estimate, () -> {
+            BitSet candidates = new BitSet(slots.size());
+            buckets.forEach(candidates::or);
+            return candidates;
+        });
+    }
+
+    private static Lookup lookupOfBucket(BitSet bucket) {
+        if (bucket == null) {
+            return new Lookup(0, BitSet::new);
+        }
+        return new Lookup(bucket.cardinality(), () -> (BitSet) bucket.clone());
+    }
+
+    /**
+     * Returns the number of slots in the shortest posting of a trigram of {@code keyword}, which bounds the number of
+     * persons that may contain it.
+     */
+    private int estimateFor(String keyword) {
+        int estimate = Integer.MAX_VALUE;
+        for (String gram : gramsOf(keyword)) {
+            Posting posting = postings.get(gram);
+            estimate = Math.min(estimate, posting == null ? 0 : posting.size);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the slots of persons whose searchable values may contain {@code keyword}, which must be lower-cased
+     * and at least {@link #GRAM_LENGTH} characters long.
+     */
+    private BitSet candidatesFor(String keyword) {
+        List<Posting> keywordPostings = new ArrayList<>();
+        for (String gram : gramsOf(keyword)) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return new BitSet();
+            }
+            keywordPostings.add(posting);
+        }
+        keywordPostings.sort((first, second) -> first.size - second.size);
+
+        BitSet result = keywordPostings.get(0).toBitSet();
+        for (int i = 1; i < keywordPostings.size() && !result.isEmpty(); i++) {
+            result.and(keywordPostings.get(i).toBitSet());
+        }
+        return result;
+    }
+
+    private void rebuild() {
+        List<Person> livePersons = new ArrayList<>(slotOf.size());
+        for (Person person : slots) {
+            if (person != null) {
+                livePersons.add(person);
+            }
+        }
+        setAll(livePersons);
+    }
+
+    private static Set<String> gramsOf(Person person) {
+        Set<String> grams = new HashSet<>();
+        String searchText = person.getSearchText();
+        for (int i = 0; i + GRAM_LENGTH <= searchText.length(); i++) {
+            String gram = searchText.substring(i, i + GRAM_LENGTH);
+            // Grams spanning two values cannot be part of a keyword
+            if (gram.indexOf('\n') < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> gramsOf(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * A planned way of finding the slots of persons that may match a term, and how many it is expected to find.
+     */
+    private static class Lookup {
+        private final int estimate;
+        private final Supplier<BitSet> slots;
+
+        Lookup(int estimate, Supplier<BitSet> slots) {
+            this.estimate = estimate;
+            this.slots = slots;
+        }
+
+        /**
+         * Returns the slots found, in a set that the caller may modify.
+         */
+        BitSet run() {
+            return slots.get();
+        }
+    }
+
+    /**
+     * A growable list of slots containing one trigram.
+     */
+    private static class Posting {
+        private int[] slots = new int[4];
+        private int size = 0;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        BitSet toBitSet() {
+            BitSet bits = new BitSet();
+            for (int i = 0; i < size; i++) {
+                bits.set(slots[i]);
+            }
+            return bits;
+        }
+    }
+}
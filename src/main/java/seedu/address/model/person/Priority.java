@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Person's priority level in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriority(String)}
@@ -43,6 +45,9 @@ public class Priority {
         }
     }
 
+    /** The one shared {@code Priority} of each level, indexed by ordinal. */
+    private static final Priority[] SHARED = Arrays.stream(Level.values()).map(Priority::new).toArray(Priority[]::new);
+
     public final Level level;
 
     /**
@@ -65,6 +70,26 @@ public class Priority {
         this.level = level;
     }
 
+    /**
+     * Returns the shared {@code Priority} of {@code level}.
+     */
+    public static Priority of(Level level) {
+        requireNonNull(level);
+        return SHARED[level.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code Priority} that {@code new Priority(priority)} would equal.
+     *
+     * @param priority A valid priority level.
+     */
+    public static Priority of(String priority) {
+        requireNonNull(priority);
+        String trimmed = priority.trim().toUpperCase();
+        checkArgument(isValidPriority(trimmed), MESSAGE_CONSTRAINTS);
+        return of(parseLevel(trimmed));
+    }
+
     /**
      * Returns true if a given string is a valid priority.
      */
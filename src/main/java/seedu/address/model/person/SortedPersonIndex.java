@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of persons in the order of a comparator, used to sort a {@code UniquePersonList} without comparing its
+ * persons again.
+ *
+ * Persons that the comparator considers equal share one entry of a red-black tree, so the tree holds one entry for
+ * each distinct sort key and adding or removing a person takes O(log K) comparisons for K distinct keys. To sort, the
+ * entries are numbered in tree order and the persons are distributed by the number of their entry in a single pass,
+ * which keeps persons with equal keys in their current order exactly like a stable sort.
+ */
+class SortedPersonIndex {
+
+    private final TreeMap<Person, KeyGroup> entries;
+    private final Map<Person, KeyGroup> groupOf = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of {@code persons} in the order of {@code comparator}.
+     */
+    SortedPersonIndex(Comparator<Person> comparator, Iterable<Person> persons) {
+        requireNonNull(comparator);
+        entries = new TreeMap<>(comparator);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Creates an index of {@code sortedPersons}, which are already in the order of {@code comparator}.
+     * Persons are grouped by comparing neighbours only, so building the index takes O(N + K log K) comparisons for
+     * N persons with K distinct keys.
+     */
+    static SortedPersonIndex fromSorted(Comparator<Person> comparator, Person[] sortedPersons) {
+        SortedPersonIndex index = new SortedPersonIndex(comparator, List.of());
+        Person representative = null;
+        KeyGroup group = null;
+        for (Person person : sortedPersons) {
+            if (group == null || comparator.compare(representative, person) != 0) {
+                representative = person;
+                group = new KeyGroup();
+                index.entries.put(representative, group);
+            }
+            group.count++;
+            index.groupOf.put(person, group);
+        }
+        return index;
+    }
+
+    /**
+     * Adds {@code person}, which must not already be in the index.
+     */
+    void add(Person person) {
+        KeyGroup group = entries.computeIfAbsent(person, unused -> new KeyGroup());
+        group.count++;
+        groupOf.put(person, group);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added.
+     */
+    void remove(Person person) {
+        KeyGroup group = groupOf.remove(person);
+        assert group != null : "Person was never added to the index";
+        if (--group.count == 0) {
+            entries.remove(person);
+        }
+    }
+
+    /**
+     * Returns the number of distinct sort keys among the indexed persons.
+     */
+    int getDistinctKeyCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns {@code persons}, which must be exactly the indexed persons, in the order of the comparator.
+     * Persons that the comparator considers equal stay in their order in {@code persons}.
+     */
+    List<Person> sort(List<Person> persons) {
+        assert persons.size() == groupOf.size() : "Persons to sort must be the indexed persons";
+
+        int rank = 0;
+        for (KeyGroup group : entries.values()) {
+            group.rank = rank++;
+        }
+
+        // starts[r] is where the next person of rank r goes
+        int[] starts = new int[rank + 1];
+        int[] ranks = new int[persons.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = groupOf.get(persons.get(i)).rank;
+            starts[ranks[i] + 1]++;
+        }
+        for (int r = 1; r < starts.length; r++) {
+            starts[r] += starts[r - 1];
+        }
+
+        Person[] sorted = new Person[persons.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            sorted[starts[ranks[i]]++] = persons.get(i);
+        }
+        return Arrays.asList(sorted);
+    }
+
+    /**
+     * The persons sharing one sort key.
+     */
+    private static class KeyGroup {
+        private int count;
+        private int rank;
+    }
+}
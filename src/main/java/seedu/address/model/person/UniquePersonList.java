@@ -3,9 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,20 +29,47 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An identity index keyed on (name, phone) is kept in sync with the list so that identity checks do not need to
+ * scan every person. It also maps each identity to the position of its person, so a person is found without a scan.
+ * Inserting or removing a person shifts the persons after it, so those positions are only refreshed the next time
+ * one of them is looked up, which costs one pass over the persons from the first shifted position onwards.
+ * Callers that change a person they have just looked up pass its position to {@link #setPerson(int, Person)} or
+ * {@link #remove(int)} instead of looking it up again. Such an insert or remove still moves the persons after it in
+ * the backing array, which is O(N) but a single array copy.
+ * A {@code PersistentPersonList} mirroring the list is also maintained so that a snapshot of the
+ * current contents can be taken in constant time, and a {@code PersonSearchIndex} narrows down {@code find} queries.
+ * The first time the list is sorted by a comparator, a {@code SortedPersonIndex} for that comparator is built and then
+ * kept in sync with the list, so sorting by the same comparator again does not compare any persons.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** The number of comparators for which a sorted index is kept. */
+    static final int MAX_SORTED_INDEXES = 8;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Integer> identityIndex = new HashMap<>();
+    /** The positions in {@code identityIndex} are up to date for persons before this position. */
+    private int positionsValidBefore = 0;
+    private PersistentPersonList snapshot = PersistentPersonList.empty();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final Map<Comparator<Person>, SortedPersonIndex> sortedIndexes =
+            new LinkedHashMap<>(MAX_SORTED_INDEXES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Comparator<Person>, SortedPersonIndex> eldest) {
+                    return size() > MAX_SORTED_INDEXES;
+                }
+            };
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(Identity.of(toCheck));
     }
 
     /**
@@ -47,6 +82,62 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(Identity.of(toAdd), internalList.size() - 1);
+        if (positionsValidBefore == internalList.size() - 1) {
+            positionsValidBefore++;
+        }
+        snapshot = snapshot.append(toAdd);
+        searchIndex.add(toAdd);
+        sortedIndexes.values().forEach(index -> index.add(toAdd));
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        identityIndex.put(Identity.of(toAdd), index);
+        positionsValidBefore = Math.min(positionsValidBefore, index);
+        snapshot = snapshot.insert(index, toAdd);
+        searchIndex.add(toAdd);
+        sortedIndexes.values().forEach(sortedIndex -> sortedIndex.add(toAdd));
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer position = identityIndex.get(Identity.of(person));
+        if (position == null) {
+            return -1;
+        }
+        if (position >= positionsValidBefore) {
+            refreshPositions();
+            position = identityIndex.get(Identity.of(person));
+        }
+        return internalList.get(position).equals(person) ? position : -1;
+    }
+
+    /**
+     * Brings the positions of the persons from {@code positionsValidBefore} onwards up to date.
+     */
+    private void refreshPositions() {
+        for (int i = positionsValidBefore; i < internalList.size(); i++) {
+            identityIndex.put(Identity.of(internalList.get(i)), i);
+        }
+        positionsValidBefore = internalList.size();
+    }
+
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        positionsValidBefore = 0;
+        refreshPositions();
     }
 
     /**
@@ -57,16 +148,35 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
+        setPerson(index, editedPerson);
+    }
 
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}, for callers that have already
+     * found the position of the person, e.g. through {@link #indexOf(Person)}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = internalList.get(index);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        identityIndex.remove(Identity.of(target));
+        identityIndex.put(Identity.of(editedPerson), index);
+        snapshot = snapshot.set(index, editedPerson);
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        for (SortedPersonIndex sortedIndex : sortedIndexes.values()) {
+            sortedIndex.remove(target);
+            sortedIndex.add(editedPerson);
+        }
     }
 
     /**
@@ -75,14 +185,35 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        remove(index);
+    }
+
+    /**
+     * Removes the person at {@code index} from the list, for callers that have already found the position of the
+     * person, e.g. through {@link #indexOf(Person)}.
+     */
+    public void remove(int index) {
+        Person removed = internalList.remove(index);
+        identityIndex.remove(Identity.of(removed));
+        positionsValidBefore = Math.min(positionsValidBefore, index);
+        snapshot = snapshot.remove(index);
+        searchIndex.remove(removed);
+        sortedIndexes.values().forEach(sortedIndex -> sortedIndex.remove(removed));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionsValidBefore = replacement.positionsValidBefore;
+        snapshot = replacement.snapshot;
+        searchIndex.setAll(internalList);
+        sortedIndexes.clear();
     }
 
     /**
@@ -96,6 +227,44 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIdentityIndex();
+        snapshot = PersistentPersonList.of(persons);
+        searchIndex.setAll(persons);
+        sortedIndexes.clear();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * The snapshot is unaffected by later changes to this list.
+     */
+    public PersistentPersonList snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code snapshot}.
+     * {@code snapshot} must have been taken from a {@code UniquePersonList}, so its persons are known to be unique.
+     */
+    public void restore(PersistentPersonList snapshot) {
+        requireNonNull(snapshot);
+        List<Person> persons = snapshot.toList();
+        internalList.setAll(persons);
+        rebuildIdentityIndex();
+        this.snapshot = snapshot;
+        searchIndex.setAll(persons);
+        sortedIndexes.clear();
+    }
+
+    /**
+     * Returns the persons in this list that may match {@code query}, in no particular order, or an empty Optional
+     * if the search index cannot narrow them down. Persons left out are guaranteed not to match, so only the returned
+     * persons need to be tested against the query itself.
+     *
+     * @see PersonSearchIndex#findCandidates(PersonQuery)
+     */
+    public Optional<List<Person>> searchCandidates(PersonQuery query) {
+        requireNonNull(query);
+        return searchIndex.findCandidates(query);
     }
 
     /**
@@ -139,21 +308,81 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(Identity.of(person))) {
+                return false;
             }
         }
         return true;
     }
 
     /**
-     * Sorts internal list using given comparator
+     * Sorts internal list using given comparator. Persons that {@code comparator} considers equal keep their order.
+     * Sorting again by an equal comparator reuses the sorted index built for it, so callers should keep their
+     * comparators rather than create a new one for every sort.
      */
     public void sort(Comparator<Person> comparator) {
+        sort(comparator, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sorts internal list like {@link #sort(Comparator)}. If there is no sorted index for {@code comparator} yet and
+     * the list has at least {@code parallelSortThreshold} persons, the persons are sorted on several threads and the
+     * index is built from the sorted persons.
+     */
+    public void sort(Comparator<Person> comparator, int parallelSortThreshold) {
         requireNonNull(comparator);
-        FXCollections.sort(internalList, comparator);
+        SortedPersonIndex sortedIndex = sortedIndexes.get(comparator);
+        if (sortedIndex != null) {
+            internalList.setAll(sortedIndex.sort(internalList));
+        } else if (internalList.size() >= parallelSortThreshold) {
+            Person[] sorted = internalList.toArray(new Person[0]);
+            Arrays.parallelSort(sorted, comparator);
+            sortedIndexes.put(comparator, SortedPersonIndex.fromSorted(comparator, sorted));
+            internalList.setAll(sorted);
+        } else {
+            sortedIndex = new SortedPersonIndex(comparator, internalList);
+            sortedIndexes.put(comparator, sortedIndex);
+            internalList.setAll(sortedIndex.sort(internalList));
+        }
+        snapshot = PersistentPersonList.of(internalList);
+        positionsValidBefore = 0;
+    }
+
+    /**
+     * Hash key for the identity fields used by {@code Person#isSamePerson(Person)}.
+     */
+    private static final class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        private Identity(Name name, Phone phone) {
+            this.name = name;
+            this.phone = phone;
+        }
+
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getPhone());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name) && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
     }
 }
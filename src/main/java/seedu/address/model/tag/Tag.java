@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,7 +14,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Validator VALIDATOR = Validator.repeated(Validator.ALNUM, 1);
+
     public final String tagName;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,13 +28,29 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.id = TagDictionary.intern(tagName).id;
+    }
+
+    /**
+     * Constructs the interned {@code Tag} named {@code tagName}, which has id {@code id}.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the id that {@link TagDictionary} gave this tag's name.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
     @Override
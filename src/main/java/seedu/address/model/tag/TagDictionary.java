@@ -0,0 +1,85 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tags, so that there is one {@code Tag} instance for each tag name, and numbers them.
+ *
+ * Ids are given out from 0 in the order tag names are first seen and are never reused, so they stay small and a set
+ * of tags can be kept as a sorted array of ids. Lookups do not lock; only interning a new tag name does.
+ */
+public class TagDictionary {
+
+    private static final Object LOCK = new Object();
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    private static final Map<String, int[]> idsByLowerCaseName = new ConcurrentHashMap<>();
+
+    /**
+     * {@code tagsById[id]} is the tag with that id. Interning writes a new tag into an unused slot, which may be in the
+     * array readers already hold, and then writes this field again. Readers only look up ids they learnt of after that
+     * write, so they always see the slot filled; slots at or beyond {@code size} are never read.
+     */
+    private static volatile Tag[] tagsById = new Tag[16];
+    private static int size = 0;
+
+    private TagDictionary() {} // prevents instantiation
+
+    /**
+     * Returns the one {@code Tag} named {@code tagName}, giving it the next id if the name is new.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+
+        checkArgument(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+        synchronized (LOCK) {
+            tag = tagsByName.get(tagName);
+            if (tag == null) {
+                tag = new Tag(tagName, size);
+                Tag[] tags = size < tagsById.length ? tagsById : Arrays.copyOf(tagsById, size * 2);
+                tags[size++] = tag;
+                // Written even if the array was not replaced, to publish the new slot
+                tagsById = tags;
+                idsByLowerCaseName.merge(tagName.toLowerCase(Locale.ROOT), new int[] {tag.getId()},
+                        TagDictionary::concat);
+                // Published last, so that a reader who finds the tag by name also finds it by id
+                tagsByName.put(tagName, tag);
+            }
+            return tag;
+        }
+    }
+
+    /**
+     * Returns the tag with id {@code id}, which must have been given out by {@link #intern(String)}.
+     */
+    public static Tag get(int id) {
+        Tag tag = tagsById[id];
+        assert tag != null : "Tag id was never given out";
+        return tag;
+    }
+
+    /**
+     * Returns the ids of the tags whose names equal {@code tagName} ignoring case, in ascending order.
+     */
+    public static int[] idsIgnoringCase(String tagName) {
+        requireNonNull(tagName);
+        return idsByLowerCaseName.getOrDefault(tagName.toLowerCase(Locale.ROOT), new int[0]);
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        int[] ids = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, ids, first.length, second.length);
+        return ids;
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, kept as the sorted ids that {@link TagDictionary} gave them.
+ *
+ * Membership is a binary search over a few ints, and two tag sets are compared by their ids alone. Iteration returns
+ * the interned tags in id order. Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private final int[] ids;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns a tag set holding {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = tag.getId();
+        }
+        Arrays.sort(ids);
+
+        // Drop duplicates, which a collection other than a set may hold
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return new TagSet(distinct == ids.length ? ids : Arrays.copyOf(ids, distinct));
+    }
+
+    /**
+     * Returns true if this set holds the tag with id {@code id}.
+     */
+    public boolean containsId(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Returns true if this set holds any of the tags with ids {@code sortedIds}, which must be in ascending order.
+     */
+    public boolean containsAnyId(int[] sortedIds) {
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < sortedIds.length) {
+            if (ids[i] == sortedIds[j]) {
+                return true;
+            } else if (ids[i] < sortedIds[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ids of the tags in this set, in ascending order.
+     */
+    public int[] toIdArray() {
+        return ids.clone();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && containsId(((Tag) o).getId());
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.get(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            return Arrays.equals(ids, ((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Must equal the hash code of any other set of the same tags
+        return super.hashCode();
+    }
+}
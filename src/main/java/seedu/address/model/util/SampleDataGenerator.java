@@ -0,0 +1,176 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates any number of distinct persons modelled on the sample persons in {@link SampleDataUtil}.
+ *
+ * First and last names, streets, companies and tags are taken from the sample persons and recombined, so names
+ * repeat as in a real address book while phone numbers and emails stay unique. A few companies and tags are much
+ * more common than the rest, about a third of the persons have a note and most have a priority.
+ * The same count and seed always produce the same persons, so generated address books can be used to compare
+ * measurements between runs.
+ */
+public class SampleDataGenerator {
+
+    public static final String MESSAGE_COUNT_CONSTRAINTS = "Number of persons must not be negative";
+
+    private static final int FIRST_PHONE_NUMBER = 80000000;
+    private static final String[] COMPANY_SUFFIXES = {"Pte Ltd", "Holdings", "Trading", "Logistics", "Labs"};
+    private static final String[] EXTRA_TAGS = {"client", "supplier", "vip", "mentor", "investor", "alumni", "gym",
+        "inactive"};
+    private static final String[] NOTES = {"Follow up next week", "Met at the career fair", "Prefers email",
+        "Owes me lunch", "Birthday in March", "Introduced by a colleague", "Call after 6pm"};
+    private static final LocalDateTime NOTES_EDITED_BEFORE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final Random random;
+    private final List<String> firstNames = new ArrayList<>();
+    private final List<String> lastNames = new ArrayList<>();
+    private final List<String> streets = new ArrayList<>();
+    private final List<String> emailDomains = new ArrayList<>();
+    private final ZipfDistribution<Company> companies;
+    private final ZipfDistribution<Tag> tags;
+
+    private SampleDataGenerator(long seed) {
+        random = new Random(seed);
+
+        Set<Company> companyPool = new LinkedHashSet<>();
+        Set<Tag> tagPool = new LinkedHashSet<>();
+        for (Person sample : SampleDataUtil.getSamplePersons()) {
+            String[] nameParts = sample.getName().fullName.split(" ", 2);
+            firstNames.add(nameParts[0]);
+            lastNames.add(nameParts[nameParts.length - 1]);
+            streets.add(sample.getAddress().value.replaceFirst("^Blk \\d+ ", "").replaceFirst(", #.*$", ""));
+            emailDomains.add(sample.getEmail().value.substring(sample.getEmail().value.indexOf('@') + 1));
+            if (sample.getCompany() != null) {
+                companyPool.add(sample.getCompany());
+            }
+            tagPool.addAll(sample.getTags());
+        }
+        for (String lastName : lastNames) {
+            for (String suffix : COMPANY_SUFFIXES) {
+                companyPool.add(new Company(lastName + " " + suffix));
+            }
+        }
+        for (String tagName : EXTRA_TAGS) {
+            tagPool.add(new Tag(tagName));
+        }
+
+        companies = new ZipfDistribution<>(new ArrayList<>(companyPool));
+        tags = new ZipfDistribution<>(new ArrayList<>(tagPool));
+    }
+
+    /**
+     * Returns {@code count} distinct persons generated from {@code seed}.
+     */
+    public static List<Person> generatePersons(int count, long seed) {
+        checkArgument(count >= 0, MESSAGE_COUNT_CONSTRAINTS);
+        SampleDataGenerator generator = new SampleDataGenerator(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generator.generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} distinct persons generated from {@code seed}.
+     */
+    public static AddressBook generateAddressBook(int count, long seed) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count, seed));
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code index}-th person. Its phone number and email are unique to {@code index}.
+     */
+    private Person generatePerson(int index) {
+        String firstName = pick(firstNames);
+        String lastName = pick(lastNames);
+
+        Name name = new Name(firstName + " " + lastName);
+        Phone phone = new Phone(Integer.toString(FIRST_PHONE_NUMBER + index));
+        Email email = new Email((firstName + lastName).toLowerCase() + index + "@" + pick(emailDomains));
+        Address address = new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(streets)
+                + String.format(", #%02d-%02d", 1 + random.nextInt(30), 1 + random.nextInt(99)));
+        Company company = random.nextInt(4) == 0 ? null : companies.sample(random);
+
+        Set<Tag> personTags = new HashSet<>();
+        for (int tagCount = random.nextInt(10) / 3; personTags.size() < tagCount;) {
+            personTags.add(tags.sample(random));
+        }
+
+        Note note = null;
+        if (random.nextInt(3) == 0) {
+            note = new Note(pick(Arrays.asList(NOTES)), NOTES_EDITED_BEFORE.minusMinutes(random.nextInt(525600)));
+        }
+
+        return new Person(name, phone, email, address, company, personTags, note, generatePriority());
+    }
+
+    /**
+     * Returns HIGH, MEDIUM, LOW or no priority for 10%, 25%, 35% and 30% of the persons respectively.
+     */
+    private Priority generatePriority() {
+        int percentile = random.nextInt(100);
+        if (percentile < 10) {
+            return Priority.of(Priority.Level.HIGH);
+        } else if (percentile < 35) {
+            return Priority.of(Priority.Level.MEDIUM);
+        } else if (percentile < 70) {
+            return Priority.of(Priority.Level.LOW);
+        } else {
+            return null;
+        }
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Picks values so that the k-th value is picked about 1/k times as often as the first one.
+     */
+    private static class ZipfDistribution<T> {
+        private final List<T> values;
+        private final double[] cumulativeWeights;
+
+        ZipfDistribution(List<T> values) {
+            this.values = values;
+            cumulativeWeights = new double[values.size()];
+            double total = 0;
+            for (int rank = 0; rank < values.size(); rank++) {
+                total += 1.0 / (rank + 1);
+                cumulativeWeights[rank] = total;
+            }
+        }
+
+        T sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return values.get(index >= 0 ? index : Math.min(-index - 1, values.size() - 1));
+        }
+    }
+
+}
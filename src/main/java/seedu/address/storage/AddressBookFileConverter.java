@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the json and binary formats.
+ * The format of each file is given by its extension; see {@link AddressBookStorageFactory#forFile(Path)}.
+ */
+public class AddressBookFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "Files ending in " + BinaryAddressBookStorage.FILE_EXTENSION + " are binary, all others are json.";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Address book file %s does not exist.";
+
+    private AddressBookFileConverter() {}
+
+    /**
+     * Reads the address book at {@code source} and writes it to {@code target}.
+     *
+     * @throws DataLoadingException if {@code source} does not exist or could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static void convert(Path source, Path target) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ReadOnlyAddressBook addressBook = AddressBookStorageFactory.forFile(source).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(
+                        new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source))));
+        AddressBookStorageFactory.forFile(target).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBookFileFormat;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Creates the {@code AddressBookStorage} that matches the user's preferences and the data file's extension.
+ */
+public class AddressBookStorageFactory {
+
+    private AddressBookStorageFactory() {}
+
+    /**
+     * Returns the storage for the address book file in {@code userPrefs}.
+     * The binary format is used if it is selected in {@code userPrefs} or if the file has the binary extension.
+     * Journaling only applies to json files.
+     */
+    public static AddressBookStorage create(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getAddressBookFileFormat() == AddressBookFileFormat.BINARY
+                || BinaryAddressBookStorage.isBinaryFilePath(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        if (userPrefs.isJournaledAddressBookFile()) {
+            return new JournaledAddressBookStorage(filePath, userPrefs.isCompactAddressBookFile());
+        }
+        return new JsonAddressBookStorage(filePath, userPrefs.isCompactAddressBookFile());
+    }
+
+    /**
+     * Returns a plain (non-journaled) storage for {@code filePath}, in the format given by its extension.
+     */
+    public static AddressBookStorage forFile(Path filePath) {
+        requireNonNull(filePath);
+        return BinaryAddressBookStorage.isBinaryFilePath(filePath)
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+    }
+
+}
@@ -0,0 +1,276 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that saves the address book on a background thread.
+ *
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} only takes an immutable snapshot of the persons and returns, so the
+ * caller (typically the JavaFX application thread) never waits for the file to be written. A single writer thread
+ * writes the snapshots through the wrapped {@code Storage}; if several saves arrive while it is busy, only the latest
+ * snapshot is written.
+ *
+ * The writer tells the {@link SaveListener} of each save it writes the version it wrote and how long the write took,
+ * or the failure, by running a task on the callback executor, e.g. {@code Platform::runLater} to report on the
+ * JavaFX application thread.
+ * A save that is superseded before it is written is never reported. {@link #flush()} also throws the failure of
+ * the last write. Unchecked exceptions thrown while writing are reported as an {@code IOException} that wraps
+ * them. All other operations run synchronously.
+ */
+public class AsyncStorage implements Storage {
+
+    public static final String MESSAGE_UNEXPECTED_WRITE_FAILURE = "Unexpected error while writing the address book: ";
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+    private static final String WRITER_THREAD_NAME = "address-book-writer";
+
+    private static final SaveListener LOGGING_LISTENER = new SaveListener() {
+        @Override
+        public void saved(long version, long writeNanos) {}
+
+        @Override
+        public void saveFailed(long version, IOException e) {
+            logger.warning("Could not save address book in the background: " + StringUtil.getDetails(e));
+        }
+    };
+
+    private final Storage storage;
+    private final Executor callbackExecutor;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object lock = new Object();
+
+    // Guarded by lock. The save waiting to be written, or null if the writer has nothing queued.
+    private PendingSave pendingSave = null;
+    // Guarded by lock. The failure of the last write if flush() has not thrown it yet.
+    private IOException unflushedFailure = null;
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through {@code storage} and reports on the writer thread.
+     */
+    public AsyncStorage(Storage storage) {
+        this(storage, Runnable::run);
+    }
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through {@code storage} and reports the outcome of each save by
+     * running a task on {@code callbackExecutor}.
+     */
+    public AsyncStorage(Storage storage, Executor callbackExecutor) {
+        requireAllNonNull(storage, callbackExecutor);
+        this.storage = storage;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        awaitQueuedWrites();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        awaitQueuedWrites();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Queues {@code addressBook} to be saved by the writer thread and returns without waiting for it to be written.
+     * A failed write is logged.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, -1, LOGGING_LISTENER);
+    }
+
+    /**
+     * Queues {@code addressBook} to be saved by the writer thread and returns without waiting for it to be written.
+     * {@code listener} is told on the callback executor once the save is written or fails, unless a later save
+     * replaces it in the queue first.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, long version, SaveListener listener) {
+        requireAllNonNull(addressBook, listener);
+        PendingSave save = new PendingSave(addressBook.snapshot(), version, listener);
+
+        synchronized (lock) {
+            boolean isWriteQueued = pendingSave != null;
+            pendingSave = save;
+            if (!isWriteQueued) {
+                writer.execute(this::writePendingSave);
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} on the calling thread, after any queued writes.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Blocks until every queued save has been written.
+     *
+     * @throws IOException if the last background write failed and no earlier flush has thrown its failure.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitQueuedWrites();
+
+        IOException failure;
+        synchronized (lock) {
+            failure = unflushedFailure;
+            unflushedFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flush();
+    }
+
+    /**
+     * Writes any queued save and stops the writer thread. No saves may be queued afterwards.
+     *
+     * @throws IOException if the last background write failed and no earlier flush has thrown its failure.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (lock) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+        if (save == null) {
+            return;
+        }
+
+        try {
+            long writeStart = System.nanoTime();
+            storage.saveAddressBook(new SnapshotAddressBook(save.snapshot));
+            long writeNanos = System.nanoTime() - writeStart;
+            synchronized (lock) {
+                unflushedFailure = null;
+            }
+            callbackExecutor.execute(() -> save.listener.saved(save.version, writeNanos));
+        } catch (IOException e) {
+            reportFailure(save, e);
+        } catch (RuntimeException e) {
+            // Unchecked failures would otherwise be swallowed by the executor, and flush() would report success
+            reportFailure(save, new IOException(MESSAGE_UNEXPECTED_WRITE_FAILURE + e, e));
+        }
+    }
+
+    private void reportFailure(PendingSave save, IOException failure) {
+        synchronized (lock) {
+            unflushedFailure = failure;
+        }
+        callbackExecutor.execute(() -> save.listener.saveFailed(save.version, failure));
+    }
+
+    /**
+     * Waits for the writer thread to finish every task queued so far.
+     */
+    private void awaitQueuedWrites() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * A save waiting for the writer thread.
+     */
+    private static class PendingSave {
+        private final PersistentPersonList snapshot;
+        private final long version;
+        private final SaveListener listener;
+
+        PendingSave(PersistentPersonList snapshot, long version, SaveListener listener) {
+            this.snapshot = snapshot;
+            this.version = version;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * An address book that is a fixed snapshot of persons.
+     */
+    private static class SnapshotAddressBook implements ReadOnlyAddressBook {
+        private final PersistentPersonList snapshot;
+
+        SnapshotAddressBook(PersistentPersonList snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(snapshot.toList()));
+        }
+
+        @Override
+        public PersistentPersonList snapshot() {
+            return snapshot;
+        }
+    }
+
+}
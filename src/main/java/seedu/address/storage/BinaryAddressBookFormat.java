@@ -0,0 +1,325 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonAdaptedPerson.toModelValue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Encodes an address book in a compact, versioned binary format.
+ *
+ * Layout (all integers big-endian; every string is an int byte length followed by UTF-8 bytes):
+ * <pre>
+ * int magic, short version
+ * int dictionary size, then that many strings   -- tag names, company names and priorities
+ * int record count, then that many records:
+ *   byte presence flags, name, phone, [email], [address], [company id], int tag count, tag ids...,
+ *   [note, [long epoch second, int nano of last edit]], [priority id]
+ * </pre>
+ * Values that repeat across persons are stored once in the dictionary and referred to by index, so each of them is
+ * also decoded and validated only once per file.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x41423342; // "AB3B"
+    public static final short VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted.";
+
+    private static final int HAS_EMAIL = 1;
+    private static final int HAS_ADDRESS = 1 << 1;
+    private static final int HAS_COMPANY = 1 << 2;
+    private static final int HAS_NOTE = 1 << 3;
+    private static final int HAS_NOTE_LAST_EDITED = 1 << 4;
+    private static final int HAS_PRIORITY = 1 << 5;
+
+    /** The fewest bytes a record takes: its flags, the lengths of its name and phone, and its tag count. */
+    private static final int MIN_RECORD_BYTES = 1 + 3 * Integer.BYTES;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}. Does not close {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        List<Person> persons = addressBook.getPersonList();
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        Map<String, Integer> dictionary = writeDictionary(data, persons);
+
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(data, person, dictionary);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the dictionary of the values shared by {@code persons} and returns the id of each value.
+     */
+    private static Map<String, Integer> writeDictionary(DataOutputStream data, List<Person> persons)
+            throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            if (person.getCompany() != null) {
+                dictionary.putIfAbsent(person.getCompany().value, dictionary.size());
+            }
+            if (person.getPriority() != null) {
+                dictionary.putIfAbsent(person.getPriority().toString(), dictionary.size());
+            }
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        data.writeInt(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(data, value);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Writes a single person record, referring to shared values by their id in {@code dictionary}.
+     */
+    private static void writePerson(DataOutputStream data, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        Note note = person.getNote();
+        int flags = (person.getEmail() != null ? HAS_EMAIL : 0)
+                | (person.getAddress() != null ? HAS_ADDRESS : 0)
+                | (person.getCompany() != null ? HAS_COMPANY : 0)
+                | (note != null ? HAS_NOTE : 0)
+                | (note != null && note.getLastEdited() != null ? HAS_NOTE_LAST_EDITED : 0)
+                | (person.getPriority() != null ? HAS_PRIORITY : 0);
+        data.writeByte(flags);
+
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getPhone().value);
+        if (person.getEmail() != null) {
+            writeString(data, person.getEmail().value);
+        }
+        if (person.getAddress() != null) {
+            writeString(data, person.getAddress().value);
+        }
+        if (person.getCompany() != null) {
+            data.writeInt(dictionary.get(person.getCompany().value));
+        }
+
+        data.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            data.writeInt(dictionary.get(tag.tagName));
+        }
+
+        if (note != null) {
+            writeString(data, note.value);
+            if (note.getLastEdited() != null) {
+                data.writeLong(note.getLastEdited().toEpochSecond(ZoneOffset.UTC));
+                data.writeInt(note.getLastEdited().getNano());
+            }
+        }
+        if (person.getPriority() != null) {
+            data.writeInt(dictionary.get(person.getPriority().toString()));
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}. Does not close {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        DataInputStream data = new DataInputStream(in);
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Dictionary dictionary = readDictionary(data);
+        int recordCount = readCount(data, MIN_RECORD_BYTES);
+        List<Person> persons = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            persons.add(readPerson(data, dictionary));
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    /**
+     * Reads the dictionary written by {@link #writeDictionary(DataOutputStream, List)}.
+     */
+    private static Dictionary readDictionary(DataInputStream data) throws IOException {
+        Dictionary dictionary = new Dictionary(readCount(data, Integer.BYTES));
+        for (int i = 0; i < dictionary.values.length; i++) {
+            dictionary.values[i] = readString(data);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Reads a single person record written by {@link #writePerson(DataOutputStream, Person, Map)}.
+     */
+    private static Person readPerson(DataInputStream data, Dictionary dictionary)
+            throws IOException, IllegalValueException {
+        int flags = data.readUnsignedByte();
+
+        Name name = toModelValue(readString(data), Name::new);
+        Phone phone = toModelValue(readString(data), Phone::new);
+
+        Email email = null;
+        if ((flags & HAS_EMAIL) != 0) {
+            email = toModelValue(readString(data), Email::new);
+        }
+
+        Address address = null;
+        if ((flags & HAS_ADDRESS) != 0) {
+            address = toModelValue(readString(data), Address::new);
+        }
+
+        Company company = (flags & HAS_COMPANY) != 0 ? dictionary.company(data.readInt()) : null;
+
+        int tagCount = readCount(data, Integer.BYTES);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(dictionary.tag(data.readInt()));
+        }
+
+        Note note = null;
+        if ((flags & HAS_NOTE) != 0) {
+            String value = readString(data);
+            LocalDateTime lastEdited = (flags & HAS_NOTE_LAST_EDITED) != 0 ? readTimestamp(data) : null;
+            note = toModelValue(value, noteValue -> new Note(noteValue, lastEdited));
+        }
+
+        Priority priority = (flags & HAS_PRIORITY) != 0 ? dictionary.priority(data.readInt()) : null;
+
+        return new Person(name, phone, email, address, company, tags, note, priority);
+    }
+
+    /**
+     * Reads a timestamp written as its epoch second and nanosecond in UTC.
+     */
+    private static LocalDateTime readTimestamp(DataInputStream data) throws IOException {
+        long epochSecond = data.readLong();
+        int nano = data.readInt();
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (RuntimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Reads a non-negative count of elements that take at least {@code minBytesEach} bytes each.
+     * The count is checked against the bytes left in {@code data}, which must report them in
+     * {@link DataInputStream#available()} as streams over files and byte arrays do, so that a corrupted count is
+     * reported as such instead of allocating room for more elements than the file can hold.
+     *
+     * @throws IOException if the count is negative or the elements cannot fit in the rest of {@code data}.
+     */
+    private static int readCount(DataInputStream data, int minBytesEach) throws IOException {
+        int count = data.readInt();
+        if (count < 0 || (long) count * minBytesEach > data.available()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[readCount(data, 1)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The dictionary of a file being read. Each entry is converted to a model object the first time it is used as
+     * that kind of value, and the object is shared by every person that refers to the entry.
+     */
+    private static class Dictionary {
+        private final String[] values;
+        private final Tag[] tags;
+        private final Company[] companies;
+        private final Priority[] priorities;
+
+        Dictionary(int size) {
+            values = new String[size];
+            tags = new Tag[size];
+            companies = new Company[size];
+            priorities = new Priority[size];
+        }
+
+        Tag tag(int id) throws IOException, IllegalValueException {
+            checkId(id);
+            if (tags[id] == null) {
+                tags[id] = toModelValue(values[id], TagDictionary::intern);
+            }
+            return tags[id];
+        }
+
+        Company company(int id) throws IOException, IllegalValueException {
+            checkId(id);
+            if (companies[id] == null) {
+                companies[id] = toModelValue(values[id], Company::of);
+            }
+            return companies[id];
+        }
+
+        Priority priority(int id) throws IOException, IllegalValueException {
+            checkId(id);
+            if (priorities[id] == null) {
+                priorities[id] = toModelValue(values[id], Priority::of);
+            }
+            return priorities[id];
+        }
+
+        private void checkId(int id) throws IOException {
+            if (id < 0 || id >= values.length) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.PersistentPersonList.Splice;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ *
+ * Each save appends a single line describing how the person list changed since the previous save, so its cost is
+ * proportional to the change rather than to the size of the address book. Every {@code checkpointInterval} entries,
+ * or when a change touches most of the list (e.g. sorting or clearing), the whole address book is written to the
+ * json file instead and the journal is discarded. Loading reads the json file and replays the journal on top of it.
+ *
+ * The json file records the sequence number of the last journal entry it includes, so entries left behind by an
+ * interrupted checkpoint are skipped. A last journal line that was only partly written is ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+    public static final String MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS = "Checkpoint interval must be positive";
+    public static final String MESSAGE_OUT_OF_ORDER_ENTRY = "Journal entries are out of order.";
+    public static final String MESSAGE_CORRUPTED_ENTRY = "Journal entry %d could not be read.";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry %d does not fit the address book.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final int checkpointInterval;
+
+    // The persons as last read from or written to filePath, or null if the files have not been read or written yet
+    private PersistentPersonList lastPersisted = null;
+    private long lastSequence = 0;
+    private int journalEntryCount = 0;
+    private boolean isCheckpointNeeded = false;
+
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a journaled storage for the address book at {@code filePath}.
+     *
+     * @param isCompact whether the json file is written without indentation or line breaks.
+     * @param checkpointInterval the number of journal entries after which the json file is rewritten.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact, int checkpointInterval) {
+        requireNonNull(filePath);
+        checkArgument(checkpointInterval > 0, MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the json file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal next to {@code filePath}, if any, is replayed on top of the json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readSnapshotAndJournal(filePath, journalFilePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private AddressBook readSnapshotAndJournal(Path filePath, Path journalFilePath)
+            throws IOException, IllegalValueException {
+        long[] snapshotSequence = {0};
+        List<Person> persons = Files.exists(filePath)
+                ? new ArrayList<>(JsonAddressBookReader.read(filePath, sequence -> snapshotSequence[0] = sequence)
+                        .getPersonList())
+                : new ArrayList<>();
+
+        long sequence = snapshotSequence[0];
+        int entryCount = 0;
+        boolean hasTornEntry = false;
+        if (Files.exists(journalFilePath)) {
+            try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    if (hasTornEntry) {
+                        throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_ENTRY, entryCount));
+                    }
+                    entryCount++;
+
+                    JsonAdaptedJournalEntry entry;
+                    try {
+                        entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                    } catch (IOException ioe) {
+                        // Only acceptable as the last line, which may have been cut short by a crash
+                        logger.warning("Ignoring unreadable journal entry in " + journalFilePath + ": " + ioe);
+                        hasTornEntry = true;
+                        continue;
+                    }
+
+                    long entrySequence = entry.getSequence();
+                    if (entrySequence <= sequence) {
+                        if (entrySequence <= snapshotSequence[0]) {
+                            continue; // Already included in the snapshot
+                        }
+                        throw new IllegalValueException(MESSAGE_OUT_OF_ORDER_ENTRY);
+                    }
+                    try {
+                        entry.toModelType().applyTo(persons);
+                    } catch (IndexOutOfBoundsException e) {
+                        throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, entrySequence));
+                    }
+                    sequence = entrySequence;
+                }
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            lastPersisted = addressBook.snapshot();
+            lastSequence = sequence;
+            journalEntryCount = entryCount;
+            isCheckpointNeeded = hasTornEntry;
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file are journaled; any other {@code filePath} gets a full json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookWriter.write(addressBook, filePath, isCompact);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        PersistentPersonList current = addressBook.snapshot();
+        if (lastPersisted == null || isCheckpointNeeded || journalEntryCount >= checkpointInterval) {
+            checkpoint(addressBook, current);
+            return;
+        }
+
+        Splice splice = current.changesSince(lastPersisted);
+        if (splice.isEmpty()) {
+            return;
+        }
+        if (splice.size() > (current.size() + lastPersisted.size()) / 2) {
+            // The entry would be about as large as the whole file
+            checkpoint(addressBook, current);
+            return;
+        }
+
+        appendEntry(new JsonAdaptedJournalEntry(lastSequence + 1, splice));
+        lastPersisted = current;
+    }
+
+    /**
+     * Appends {@code entry} as a single line to the journal.
+     */
+    private void appendEntry(JsonAdaptedJournalEntry entry) throws IOException {
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+
+        // If the append fails part way, the journal must not be appended to again
+        isCheckpointNeeded = true;
+        FileUtil.appendDurably(getJournalFilePath(filePath), line);
+        isCheckpointNeeded = false;
+
+        lastSequence++;
+        journalEntryCount++;
+    }
+
+    /**
+     * Writes the whole address book to the json file and discards the journal.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, PersistentPersonList current) throws IOException {
+        logger.fine("Writing checkpoint of " + current.size() + " persons to " + filePath);
+        JsonAddressBookWriter.write(addressBook, filePath, isCompact, OptionalLong.of(lastSequence));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        lastPersisted = current;
+        journalEntryCount = 0;
+        isCheckpointNeeded = false;
+    }
+
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.PersistentPersonList.Splice;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one entry of the address book journal: a numbered {@link Splice} of the person list.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_POSITION = "Journal entry's position must not be negative.";
+
+    private final Long sequence;
+    private final Integer index;
+    private final Integer removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") Long sequence, @JsonProperty("index") Integer index,
+                                   @JsonProperty("removed") Integer removed,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.sequence = sequence;
+        this.index = index;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given {@code splice} into the journal entry numbered {@code sequence}.
+     */
+    public JsonAdaptedJournalEntry(long sequence, Splice splice) {
+        this.sequence = sequence;
+        index = splice.getIndex();
+        removed = splice.getRemovedCount();
+        persons.addAll(splice.getInserted().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the sequence number of this entry.
+     *
+     * @throws IllegalValueException if the sequence number is missing.
+     */
+    public long getSequence() throws IllegalValueException {
+        if (sequence == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sequence"));
+        }
+        return sequence;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry into the {@code Splice} it records.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public Splice toModelType() throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (removed == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "removed"));
+        }
+        if (index < 0 || removed < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_POSITION);
+        }
+
+        final List<Person> insertedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            insertedPersons.add(person.toModelType());
+        }
+        return new Splice(index, removed, insertedPersons);
+    }
+
+}
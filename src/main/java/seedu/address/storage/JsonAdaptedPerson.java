@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -99,27 +100,18 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelValue(name, Name::new);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelValue(phone, Phone::new);
 
         // Email is optional
         final Email modelEmail;
         if (email != null) {
-            if (!Email.isValidEmail(email)) {
-                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-            }
-            modelEmail = new Email(email);
+            modelEmail = toModelValue(email, Email::new);
         } else {
             modelEmail = null;
         }
@@ -127,10 +119,7 @@ class JsonAdaptedPerson {
         // Address is optional
         final Address modelAddress;
         if (address != null) {
-            if (!Address.isValidAddress(address)) {
-                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-            }
-            modelAddress = new Address(address);
+            modelAddress = toModelValue(address, Address::new);
         } else {
             modelAddress = null;
         }
@@ -138,10 +127,7 @@ class JsonAdaptedPerson {
         // Company is optional
         final Company modelCompany;
         if (company != null) {
-            if (!Company.isValidCompany(company)) {
-                throw new IllegalValueException(Company.MESSAGE_CONSTRAINTS);
-            }
-            modelCompany = new Company(company);
+            modelCompany = toModelValue(company, Company::of);
         } else {
             modelCompany = null;
         }
@@ -151,18 +137,8 @@ class JsonAdaptedPerson {
         // Note is optional
         final Note modelNote;
         if (note != null && !note.trim().isEmpty()) {
-            if (!Note.isValidNote(note)) {
-                throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
-            }
-            LocalDateTime parsedLastEdited = null;
-            if (noteLastEdited != null && !noteLastEdited.isEmpty()) {
-                try {
-                    parsedLastEdited = LocalDateTime.parse(noteLastEdited, ISO_FORMAT);
-                } catch (DateTimeParseException ignored) {
-                    // ignore malformed timestamp
-                }
-            }
-            modelNote = new Note(note, parsedLastEdited);
+            final LocalDateTime parsedLastEdited = parseNoteLastEdited();
+            modelNote = toModelValue(note, value -> new Note(value, parsedLastEdited));
         } else {
             modelNote = null;
         }
@@ -170,10 +146,7 @@ class JsonAdaptedPerson {
         // Priority is optional
         final Priority modelPriority;
         if (priority != null && !priority.trim().isEmpty()) {
-            if (!Priority.isValidPriority(priority)) {
-                throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
-            }
-            modelPriority = new Priority(priority);
+            modelPriority = toModelValue(priority, Priority::of);
         } else {
             modelPriority = null;
         }
@@ -182,4 +155,33 @@ class JsonAdaptedPerson {
                 modelTags, modelNote, modelPriority);
     }
 
+    /**
+     * Returns the time the note was last edited, or null if it is missing or malformed.
+     */
+    private LocalDateTime parseNoteLastEdited() {
+        if (noteLastEdited == null || noteLastEdited.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(noteLastEdited, ISO_FORMAT);
+        } catch (DateTimeParseException ignored) {
+            // ignore malformed timestamp
+            return null;
+        }
+    }
+
+    /**
+     * Returns the model value that {@code factory} makes from {@code value}. The factory validates {@code value}, so
+     * it is validated once rather than once here and again in the factory.
+     *
+     * @throws IllegalValueException with the constraints message of the value if {@code value} is invalid.
+     */
+    static <T> T toModelValue(String value, Function<String, T> factory) throws IllegalValueException {
+        try {
+            return factory.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
 }
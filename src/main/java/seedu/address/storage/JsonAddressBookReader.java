@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book JSON file a batch of persons at a time.
+ *
+ * Person objects are bound to {@code JsonAdaptedPerson}s until a batch is full, and the batch is converted on all
+ * cores before the next one is read, so neither the file contents nor the full list of adapted persons is ever held
+ * in memory. Duplicates are checked once, after every person is converted. Accepts the same format as
+ * {@link JsonSerializableAddressBook}.
+ */
+class JsonAddressBookReader {
+
+    /** The number of adapted persons held at once. */
+    static final int BATCH_SIZE = 16 * ParallelPersonConverter.CHUNK_SIZE;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book stored in {@code filePath}.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be read or is not a valid address book JSON file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, unused -> {});
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but also passes the journal sequence number recorded in the file, if any,
+     * to {@code journalSequenceConsumer}.
+     */
+    public static AddressBook read(Path filePath, LongConsumer journalSequenceConsumer)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(journalSequenceConsumer);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            List<Person> persons = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (JsonAddressBookWriter.PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    readPersons(parser, persons);
+                } else if (JsonAddressBookWriter.JOURNAL_SEQUENCE_FIELD.equals(fieldName)
+                        && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    journalSequenceConsumer.accept(parser.getLongValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return JsonSerializableAddressBook.toAddressBook(persons);
+        }
+    }
+
+    /**
+     * Reads every person in the array at the current position of {@code parser} into {@code persons}.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                persons.addAll(ParallelPersonConverter.convert(batch));
+                batch.clear();
+            }
+        }
+        persons.addAll(ParallelPersonConverter.convert(batch));
+
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected a person object");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book JSON file one person at a time.
+ *
+ * Each person is adapted and written to a buffered generator on its own, so the rendered file is never held in
+ * memory. The file is replaced atomically, so a crash during a save leaves the previous contents intact.
+ * Produces the same format that {@link JsonAddressBookReader} and {@link JsonSerializableAddressBook} read.
+ */
+class JsonAddressBookWriter {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing any existing file.
+     *
+     * @param isCompact whether to leave out indentation and line breaks, which shrinks large files.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, filePath, isCompact, OptionalLong.empty());
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path, boolean)}, but also records the sequence number of the
+     * last journal entry already included in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+            OptionalLong journalSequence) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        requireNonNull(journalSequence);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)) {
+                generator.writeStartObject();
+                if (journalSequence.isPresent()) {
+                    generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence.getAsLong());
+                }
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons into the model's {@code Person}s on all cores.
+ *
+ * The adapted persons are split into chunks that a fork-join pool converts in parallel. A chunk stops at its first
+ * invalid person, and a chunk starting after an invalid person that was already found is skipped. Every chunk before
+ * an invalid person still runs to its own first invalid person, so the error reported is always that of the first
+ * invalid person in the list, exactly as converting one person after another would report it.
+ */
+class ParallelPersonConverter {
+
+    /** The most persons converted by one task; lists no longer than this are converted in the calling thread. */
+    static final int CHUNK_SIZE = 512;
+
+    private ParallelPersonConverter() {} // prevents instantiation
+
+    /**
+     * Returns the persons that {@code adaptedPersons} convert into, in the same order.
+     *
+     * @throws IllegalValueException the error of the first adapted person that violates a data constraint.
+     */
+    static List<Person> convert(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        requireNonNull(adaptedPersons);
+        Person[] persons = new Person[adaptedPersons.size()];
+        FirstFailure failure = new FirstFailure();
+        ConversionTask task = new ConversionTask(adaptedPersons, persons, 0, persons.length, failure);
+        if (persons.length <= CHUNK_SIZE) {
+            task.convertChunk();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+
+        if (failure.exception != null) {
+            throw failure.exception;
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * Converts the adapted persons from {@code from} inclusive to {@code to} exclusive, splitting the range in halves
+     * until it fits in a chunk.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] persons;
+        private final int from;
+        private final int to;
+        private final FirstFailure failure;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] persons, int from, int to,
+                FirstFailure failure) {
+            this.adaptedPersons = adaptedPersons;
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                convertChunk();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask(adaptedPersons, persons, from, middle, failure),
+                    new ConversionTask(adaptedPersons, persons, middle, to, failure));
+        }
+
+        void convertChunk() {
+            for (int i = from; i < to && i < failure.index; i++) {
+                try {
+                    persons[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException e) {
+                    failure.record(i, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The invalid person with the smallest index found so far.
+     */
+    private static class FirstFailure {
+        private volatile int index = Integer.MAX_VALUE;
+        private IllegalValueException exception;
+
+        synchronized void record(int index, IllegalValueException exception) {
+            if (index < this.index) {
+                this.exception = exception;
+                this.index = index;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Is told the outcome of saving an address book.
+ */
+public interface SaveListener {
+
+    /**
+     * Called once {@code version} of the address book has been written to storage, which took {@code writeNanos}.
+     */
+    void saved(long version, long writeNanos);
+
+    /**
+     * Called if writing {@code version} of the address book to storage failed with {@code e}.
+     */
+    void saveFailed(long version, IOException e);
+
+}
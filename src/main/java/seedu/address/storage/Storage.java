@@ -29,4 +29,26 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, which is at modification version {@code version}, and tells {@code listener} once
+     * it has been written. Storages that write synchronously tell {@code listener} before returning and throw any
+     * failure instead of reporting it; storages that write in the background report both later.
+     *
+     * @see seedu.address.model.Model#getAddressBookVersion()
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, long version, SaveListener listener)
+            throws IOException {
+        long writeStart = System.nanoTime();
+        saveAddressBook(addressBook);
+        listener.saved(version, System.nanoTime() - writeStart);
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     * Storages that write synchronously have nothing to do.
+     *
+     * @throws IOException if a save failed since the last flush.
+     */
+    default void flush() throws IOException {}
+
 }
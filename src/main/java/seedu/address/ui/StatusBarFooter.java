@@ -13,16 +13,27 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String UNSAVED_CHANGES_SUFFIX = " (unsaved changes)";
 
     @FXML
     private Label saveLocationStatus;
 
+    private final String saveLocationText;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        saveLocationText = Paths.get(".").resolve(saveLocation).toString();
+        saveLocationStatus.setText(saveLocationText);
+    }
+
+    /**
+     * Shows whether the address book has changes that are not saved to the save location yet.
+     */
+    public void setUnsavedChanges(boolean hasUnsavedChanges) {
+        saveLocationStatus.setText(hasUnsavedChanges ? saveLocationText + UNSAVED_CHANGES_SUFFIX : saveLocationText);
     }
 
 }
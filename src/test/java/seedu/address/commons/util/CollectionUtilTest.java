@@ -1,18 +1,47 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 public class CollectionUtilTest {
+    @Test
+    public void smallest_sameAsStableSortPrefix() {
+        Random random = new Random(42);
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(random.nextInt(50));
+        }
+        // Compare by tens only, so that many items are equal and their order must be kept
+        Comparator<Integer> byTens = Comparator.comparingInt(item -> item / 10);
+        List<Integer> sorted = new ArrayList<>(items);
+        sorted.sort(byTens);
+
+        for (int k : new int[] {1, 7, 200, 1000, 1500}) {
+            assertEquals(sorted.subList(0, Math.min(k, items.size())), CollectionUtil.smallest(items, k, byTens));
+        }
+        assertEquals(List.of(), CollectionUtil.smallest(items, 0, byTens));
+    }
+
+    @Test
+    public void smallest_invalidArguments_throws() {
+        assertThrows(NullPointerException.class, () -> CollectionUtil.smallest(null, 1, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () ->
+                CollectionUtil.smallest(List.of(1), -1, Comparator.<Integer>naturalOrder()));
+    }
+
     @Test
     public void requireAllNonNullVarargs() {
         // no arguments
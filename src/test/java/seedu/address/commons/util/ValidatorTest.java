@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidatorTest {
+
+    /** Characters inside and at the edges of every character class used by the validators. */
+    private static final String ALPHABET = "aZm09 \t\n\u000B\f\r.,&-_@+/\u0085\u2028\u2029\u00E9\u0660\uD83D\uDE00";
+
+    @Test
+    public void repeated_checksLengthAndEveryCharacter() {
+        Validator validator = Validator.repeated(Validator.DIGIT, 3);
+        assertTrue(validator.isValid("123"));
+        assertTrue(validator.isValid("12345"));
+        assertFalse(validator.isValid("12"));
+        assertFalse(validator.isValid("12a4"));
+        assertFalse(validator.isValid(""));
+
+        assertThrows(IllegalArgumentException.class, () -> Validator.repeated(Validator.DIGIT, -1));
+    }
+
+    @Test
+    public void firstThen_checksFirstCharacterSeparately() {
+        Validator validator = Validator.firstThen(Validator.ALNUM, Validator.ALNUM.or(Validator.anyOf(" ")));
+        assertTrue(validator.isValid("a"));
+        assertTrue(validator.isValid("a b"));
+        assertFalse(validator.isValid(" ab"));
+        assertFalse(validator.isValid(""));
+    }
+
+    @Test
+    public void ofRegex_matchesWholeString() {
+        Validator validator = Validator.ofRegex("a+b");
+        assertTrue(validator.isValid("aab"));
+        assertFalse(validator.isValid("aabc"));
+    }
+
+    @Test
+    public void isValid_randomStrings_agreesWithRegex() {
+        assertAgreesWithRegex(Name.VALIDATION_REGEX, Name::isValidName);
+        assertAgreesWithRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        assertAgreesWithRegex(Email.VALIDATION_REGEX, Email::isValidEmail);
+        assertAgreesWithRegex(Address.VALIDATION_REGEX, Address::isValidAddress);
+        assertAgreesWithRegex(Company.VALIDATION_REGEX, Company::isValidCompany);
+        assertAgreesWithRegex(Note.VALIDATION_REGEX, Note::isValidNote);
+        assertAgreesWithRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+    private static void assertAgreesWithRegex(String regex, Predicate<String> isValid) {
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String test = sb.toString();
+            assertEquals(test.matches(regex), isValid.test(test), "Disagrees with " + regex + " on " + test);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final List<String> created = new ArrayList<>();
+    private final WeakInterner<Box> interner = new WeakInterner<>(this::create, box -> box.value);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<Box>(null, box -> box.value));
+        assertThrows(NullPointerException.class, () -> new WeakInterner<>(Box::new, null));
+    }
+
+    @Test
+    public void intern_equalStrings_createsOneValue() {
+        Box first = interner.intern("value");
+        Box second = interner.intern(new String("value"));
+
+        assertSame(first, second);
+        assertEquals(List.of("value"), created);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentStrings_createsDistinctValues() {
+        Box first = interner.intern("one");
+        Box second = interner.intern("two");
+
+        assertNotSame(first, second);
+        assertEquals(List.of("one", "two"), created);
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_poolsNothing() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(""));
+        assertEquals(0, interner.size());
+    }
+
+    private Box create(String value) {
+        AppUtil.checkArgument(!value.isEmpty());
+        created.add(value);
+        return new Box(value);
+    }
+
+    private static class Box {
+        private final String value;
+
+        Box(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_BATCH_LINE;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,15 +31,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStatistics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -98,6 +112,136 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(model.getAddressBookVersion(), logic.getLastSavedAddressBookVersion());
+    }
+
+    @Test
+    public void execute_modifyingCommand_savesNewVersion() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        long initialVersion = logic.getLastSavedAddressBookVersion();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertTrue(Files.exists(addressBookPath));
+        assertTrue(logic.getLastSavedAddressBookVersion() > initialVersion);
+        assertFalse(logic.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_backgroundSave_savedAndRecordedOnceReported() throws Exception {
+        List<Runnable> callbacks = new ArrayList<>();
+        AsyncStorage storage = new AsyncStorage(new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), callbacks::add);
+        logic = new LogicManager(model, storage);
+        List<Optional<String>> results = new ArrayList<>();
+        logic.setSaveResultHandler(results::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        storage.close();
+        // Written, but not reported yet
+        assertTrue(logic.hasUnsavedChanges());
+        CommandMetrics commandMetrics = ((LogicManager) logic).getCommandMetrics();
+        assertEquals(0, commandMetrics.getCommandStatistics().get(0).getSaveNanos().getCount());
+
+        callbacks.forEach(Runnable::run);
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(model.getAddressBookVersion(), logic.getLastSavedAddressBookVersion());
+        assertEquals(List.of(Optional.empty()), results);
+        // The write is recorded once reported
+        assertEquals(1, commandMetrics.getCommandStatistics().get(0).getSaveNanos().getCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportsErrorMessage() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        AsyncStorage storage = new AsyncStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic = new LogicManager(model, storage);
+        List<Optional<String>> results = new ArrayList<>();
+        logic.setSaveResultHandler(results::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(IOException.class, storage::flush);
+        assertTrue(logic.hasUnsavedChanges());
+        String expectedMessage = String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage());
+        assertEquals(List.of(Optional.of(expectedMessage)), results);
+
+        // The next command tries to save again even though it changes nothing
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::close);
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void execute_validCommands_recordsMetrics() throws Exception {
+        CommandMetrics commandMetrics = ((LogicManager) logic).getCommandMetrics();
+        logic.execute("  " + ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        List<CommandStatistics> statistics = commandMetrics.getCommandStatistics();
+        assertEquals(2, statistics.size());
+        CommandStatistics add = statistics.get(0);
+        assertEquals(AddCommand.COMMAND_WORD, add.getCommandWord());
+        assertEquals(1, add.getSaveNanos().getCount());
+        assertEquals(1, add.getResultSize().getMax());
+        CommandStatistics list = statistics.get(1);
+        assertEquals(ListCommand.COMMAND_WORD, list.getCommandWord());
+        assertEquals(0, list.getSaveNanos().getCount());
+    }
+
+    @Test
+    public void executeBatch_validCommands_savesOnce() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        CommandMetrics commandMetrics = ((LogicManager) logic).getCommandMetrics();
+        CommandResult result = logic.executeBatch(List.of("# import",
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY, "",
+                AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB));
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertTrue(Files.exists(addressBookPath));
+        assertFalse(logic.hasUnsavedChanges());
+
+        List<CommandStatistics> statistics = commandMetrics.getCommandStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(BatchCommand.COMMAND_WORD, statistics.get(0).getCommandWord());
+        assertEquals(1, statistics.get(0).getSaveNanos().getCount());
+    }
+
+    @Test
+    public void executeBatch_failingCommand_changesNothing() {
+        boolean couldUndo = model.canUndoAddressBook();
+        List<String> commandTexts = List.of(
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY,
+                "delete 9");
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), () -> logic.executeBatch(commandTexts));
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(couldUndo, model.canUndoAddressBook());
+    }
+
+    @Test
+    public void executeBatch_invalidLine_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_BATCH_LINE, 2, MESSAGE_UNKNOWN_COMMAND), ()
+            -> logic.executeBatch(List.of(ListCommand.COMMAND_WORD, "uicfhmowqewca")));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -197,5 +341,6 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertTrue(logic.hasUnsavedChanges());
     }
 }
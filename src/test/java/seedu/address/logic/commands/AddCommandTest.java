@@ -24,6 +24,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -93,6 +94,21 @@ public class AddCommandTest {
         public void commitAddressBook() {
         }
 
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called in this test.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called in this test.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called in this test.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             return false;
@@ -153,6 +169,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -187,6 +208,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void findPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
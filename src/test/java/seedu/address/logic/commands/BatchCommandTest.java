@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.history.UndoHistoryMode;
+
+public class BatchCommandTest {
+
+    @Test
+    public void constructor_noCommands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchCommand(List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new BatchCommand(List.of(new ListCommand()), List.of(1, 2)));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_oneUndoRevertsBatch() throws Exception {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            Model model = createModel(mode);
+            BatchCommand batchCommand = new BatchCommand(
+                    List.of(new AddCommand(AMY), new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1, 2));
+
+            CommandResult result = batchCommand.execute(model);
+
+            assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+            assertTrue(model.hasPerson(AMY));
+            assertFalse(model.hasPerson(ALICE));
+
+            model.undoAddressBook();
+            assertEquals(new AddressBook(getTypicalAddressBook()), model.getAddressBook());
+            assertFalse(model.canUndoAddressBook());
+        }
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackEarlierCommands() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            Model model = createModel(mode);
+            Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 2);
+            BatchCommand batchCommand = new BatchCommand(List.of(new AddCommand(AMY),
+                    new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(outOfBoundIndex)), List.of(1, 2, 4));
+
+            assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 4,
+                    Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), () -> batchCommand.execute(model));
+
+            assertEquals(new AddressBook(getTypicalAddressBook()), model.getAddressBook());
+            assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+            assertFalse(model.canUndoAddressBook());
+
+            // the model accepts new commands and transactions after a rollback
+            model.beginTransaction();
+            model.commitTransaction();
+        }
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1))));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON)),
+                List.of(1))));
+
+        // different line numbers -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(3))));
+    }
+
+    private static Model createModel(UndoHistoryMode mode) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(mode);
+        return new ModelManager(getTypicalAddressBook(), userPrefs);
+    }
+}
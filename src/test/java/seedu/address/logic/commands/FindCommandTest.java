@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -20,6 +21,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Field;
+import seedu.address.model.person.PersonQuery.Term;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -86,11 +90,25 @@ public class FindCommandTest {
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fieldQuery_personsMatchingAnyClauseFound() {
+        // (t/friends n/meier -t/owesMoney) OR a/tokyo
+        PersonQuery query = new PersonQuery(List.of(
+                List.of(Term.of(Field.TAG, "friends"), Term.of(Field.NAME, "meier"),
+                        Term.of(Field.TAG, "owesMoney").negate()),
+                List.of(Term.of(Field.ADDRESS, "tokyo"))));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(DANIEL, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{query=" + PersonQuery.anyOf(List.of("keyword"))
+                + "}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -93,7 +93,9 @@ public class NoteCommandTest {
         String expectedMessage = String.format(NoteCommand.MESSAGE_ADD_NOTE_SUCCESS,
                 Messages.format(editedPerson) + " [" + noteDisplay + "]");
 
+        // The filter stays in place
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setPerson(firstPerson, editedPerson);
         assertFalse(model.canUndoAddressBook());
 
@@ -57,7 +57,9 @@ public class PriorityCommandTest {
         String expectedMessage = String.format(PriorityCommand.MESSAGE_SET_PRIORITY_SUCCESS,
                 Messages.format(editedPerson));
 
+        // The filter stays in place
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setPerson(firstPerson, editedPerson);
 
         assertCommandSuccess(priorityCommand, model, expectedMessage, expectedModel);
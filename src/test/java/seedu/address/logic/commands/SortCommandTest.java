@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -11,6 +12,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.SortCriterion;
 import seedu.address.logic.parser.SortKeys;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -44,7 +46,8 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand(SortKeys.NAME);
         CommandResult result = sortCommand.execute(model);
 
-        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS, SortKeys.NAME.getDisplayName());
+        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS,
+                SortCriterion.ascending(SortKeys.NAME).getDescription());
         assertEquals(successMessage, result.getFeedbackToUser());
         assertTrue(model.canUndoAddressBook());
 
@@ -65,7 +68,8 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand(SortKeys.PHONE);
         CommandResult result = sortCommand.execute(model);
 
-        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS, SortKeys.PHONE.getDisplayName());
+        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS,
+                SortCriterion.ascending(SortKeys.PHONE).getDescription());
         assertEquals(successMessage, result.getFeedbackToUser());
         assertTrue(model.canUndoAddressBook());
 
@@ -86,7 +90,8 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand(SortKeys.EMAIL);
         CommandResult result = sortCommand.execute(model);
 
-        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS, SortKeys.EMAIL.getDisplayName());
+        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS,
+                SortCriterion.ascending(SortKeys.EMAIL).getDescription());
         assertEquals(successMessage, result.getFeedbackToUser());
         assertTrue(model.canUndoAddressBook());
 
@@ -107,7 +112,8 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand(SortKeys.ADDRESS);
         CommandResult result = sortCommand.execute(model);
 
-        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS, SortKeys.ADDRESS.getDisplayName());
+        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS,
+                SortCriterion.ascending(SortKeys.ADDRESS).getDescription());
         assertEquals(successMessage, result.getFeedbackToUser());
         assertTrue(model.canUndoAddressBook());
 
@@ -118,6 +124,22 @@ public class SortCommandTest {
         assertEquals(expected, after);
     }
 
+    @Test
+    public void execute_sortByCompany_sortsCaseInsensitiveWithMissingLast() {
+        Person beta = new PersonBuilder().withName("Amy").withPhone("111").withCompany("beta Ltd").build();
+        Person none = new PersonBuilder().withName("Bob").withPhone("222").build();
+        Person alpha = new PersonBuilder().withName("Cat").withPhone("333").withCompany("Alpha Inc").build();
+        AddressBook addressBook = new AddressBook();
+        List.of(beta, none, alpha).forEach(addressBook::addPerson);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new SortCommand(SortKeys.COMPANY).execute(model);
+
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS,
+                SortCriterion.ascending(SortKeys.COMPANY).getDescription()), result.getFeedbackToUser());
+        assertEquals(List.of(alpha, beta, none), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_sortByTag_sortsByFirstTagCaseInsensitive() {
         AddressBook ab = getTypicalAddressBook();
@@ -128,22 +150,79 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand(SortKeys.TAG);
         CommandResult result = sortCommand.execute(model);
 
-        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS, SortKeys.TAG.getDisplayName());
+        String successMessage = String.format(SortCommand.MESSAGE_SUCCESS,
+                SortCriterion.ascending(SortKeys.TAG).getDescription());
         assertEquals(successMessage, result.getFeedbackToUser());
         assertTrue(model.canUndoAddressBook());
 
         List<Person> after = new ArrayList<>(model.getFilteredPersonList());
         List<Person> expected = new ArrayList<>(before);
 
-        // Expected: sort by lexicographically smallest tag (case-insensitive). If no tags, treat as "".
+        // Expected: sort by lexicographically smallest tag (case-insensitive), with untagged persons last.
         expected.sort(Comparator.comparing(p ->
                 p.getTags().stream()
                         .map(tag -> tag.tagName.toLowerCase())
                         .sorted()
                         .findFirst()
-                        .orElse("")
+                        .orElse(null), Comparator.nullsLast(Comparator.<String>naturalOrder())
         ));
 
         assertEquals(expected, after);
     }
+
+    @Test
+    public void execute_multipleKeys_sortsByEachKeyInTurn() {
+        Person highBob = new PersonBuilder().withName("Bob").withPhone("111").withPriority("HIGH").build();
+        Person lowAmy = new PersonBuilder().withName("Amy").withPhone("222").withPriority("LOW").build();
+        Person highAmy = new PersonBuilder().withName("Amy").withPhone("333").withPriority("HIGH").build();
+        Person noPriority = new PersonBuilder().withName("Cat").withPhone("444").build();
+        AddressBook addressBook = new AddressBook();
+        List.of(highBob, lowAmy, highAmy, noPriority).forEach(addressBook::addPerson);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        SortCriterion byPriorityDescending = new SortCriterion(SortKeys.PRIORITY, true, false);
+        SortCriterion byNameDescending = new SortCriterion(SortKeys.NAME, true, false);
+        CommandResult result = new SortCommand(List.of(byPriorityDescending, byNameDescending)).execute(model);
+
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "priority (descending), then name (descending)"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(lowAmy, highBob, highAmy, noPriority), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_nullsFirst_sortsMissingValuesFirst() {
+        Person high = new PersonBuilder().withName("High").withPhone("111").withPriority("HIGH").build();
+        Person none = new PersonBuilder().withName("None").withPhone("222").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(high);
+        addressBook.addPerson(none);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        new SortCommand(List.of(new SortCriterion(SortKeys.PRIORITY, false, true))).execute(model);
+        assertEquals(List.of(none, high), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_aboveParallelThreshold_sameOrder() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelSortThreshold(0);
+        Model parallelModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Model sequentialModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        SortCommand sortCommand = new SortCommand(List.of(new SortCriterion(SortKeys.TAG, true, false),
+                SortCriterion.ascending(SortKeys.PHONE)));
+
+        sortCommand.execute(parallelModel);
+        sortCommand.execute(sequentialModel);
+        assertEquals(sequentialModel.getFilteredPersonList(), parallelModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand byName = new SortCommand(SortKeys.NAME);
+        assertTrue(byName.equals(byName));
+        assertTrue(byName.equals(new SortCommand(List.of(SortCriterion.ascending(SortKeys.NAME)))));
+        assertFalse(byName.equals(new SortCommand(List.of(new SortCriterion(SortKeys.NAME, true, false)))));
+        assertFalse(byName.equals(new SortCommand(SortKeys.PHONE)));
+        assertFalse(byName.equals(null));
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullMetrics_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_noCommands_showsNoCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(new CommandMetrics()), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_recordedCommands_showsTable() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", 1_000, 2_000, 1_024, 7);
+        assertCommandSuccess(new StatsCommand(metrics), model, metrics.toTable(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.TopKeys;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TopCommandTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final Person lowRecent = new PersonBuilder().withName("Low Recent").withPhone("111")
+            .withPriority("LOW").withNote("call back", NOON.plusDays(2)).build();
+    private final Person highOld = new PersonBuilder().withName("High Old").withPhone("222")
+            .withPriority("HIGH").withNote("met at fair", NOON).build();
+    private final Person highUnnoted = new PersonBuilder().withName("High Unnoted").withPhone("333")
+            .withPriority("HIGH").build();
+    private final Person highRecent = new PersonBuilder().withName("High Recent").withPhone("444")
+            .withPriority("HIGH").withNote("sent quote", NOON.plusDays(1)).build();
+    private final Person noPriority = new PersonBuilder().withName("No Priority").withPhone("555").build();
+
+    private Model createModel() {
+        AddressBook addressBook = new AddressBook();
+        List.of(lowRecent, highOld, highUnnoted, highRecent, noPriority).forEach(addressBook::addPerson);
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TopCommand(0, List.of(TopKeys.NAME)));
+        assertThrows(IllegalArgumentException.class, () -> new TopCommand(1, List.of()));
+    }
+
+    @Test
+    public void execute_priorityThenNoteLastEdited_listsTopPersons() {
+        Model model = createModel();
+        List<Person> before = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        TopCommand command = new TopCommand(3, List.of(TopKeys.PRIORITY, TopKeys.NOTE_LAST_EDITED));
+        CommandResult result = command.execute(model);
+
+        String expected = String.format(TopCommand.MESSAGE_SUCCESS, 3, "priority, then noteLastEdited")
+                + "\n1. " + Messages.format(highRecent) + "; Note last edited: "
+                + highRecent.getNote().getFormattedLastEdited()
+                + "\n2. " + Messages.format(highOld) + "; Note last edited: "
+                + highOld.getNote().getFormattedLastEdited()
+                + "\n3. " + Messages.format(highUnnoted);
+        assertEquals(expected, result.getFeedbackToUser());
+
+        // Neither the address book nor the undo history changes
+        assertEquals(before, model.getAddressBook().getPersonList());
+        assertEquals(before, model.getFilteredPersonList());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_equalKeys_keepsAddressBookOrder() {
+        CommandResult result = new TopCommand(2, List.of(TopKeys.PRIORITY)).execute(createModel());
+        String expected = String.format(TopCommand.MESSAGE_SUCCESS, 2, "priority")
+                + "\n1. " + Messages.format(highOld)
+                + "\n2. " + Messages.format(highUnnoted);
+        assertEquals(expected, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_withKeywords_ranksMatchingPersonsOnly() {
+        TopCommand command = new TopCommand(10, List.of(TopKeys.NOTE_LAST_EDITED),
+                new NameContainsKeywordsPredicate(List.of("recent")));
+        CommandResult result = command.execute(createModel());
+        String expected = String.format(TopCommand.MESSAGE_SUCCESS, 2, "noteLastEdited")
+                + "\n1. " + Messages.format(lowRecent) + "; Note last edited: "
+                + lowRecent.getNote().getFormattedLastEdited()
+                + "\n2. " + Messages.format(highRecent) + "; Note last edited: "
+                + highRecent.getNote().getFormattedLastEdited();
+        assertEquals(expected, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatches_returnsNoMatchesMessage() {
+        TopCommand command = new TopCommand(5, List.of(TopKeys.NAME),
+                new NameContainsKeywordsPredicate(List.of("nobody")));
+        assertEquals(TopCommand.MESSAGE_NO_MATCHES, command.execute(createModel()).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        TopCommand topByName = new TopCommand(5, List.of(TopKeys.NAME));
+        assertTrue(topByName.equals(topByName));
+        assertTrue(topByName.equals(new TopCommand(5, List.of(TopKeys.NAME))));
+        assertFalse(topByName.equals(new TopCommand(6, List.of(TopKeys.NAME))));
+        assertFalse(topByName.equals(new TopCommand(5, List.of(TopKeys.PRIORITY))));
+        assertFalse(topByName.equals(new TopCommand(5, List.of(TopKeys.NAME),
+                new NameContainsKeywordsPredicate(List.of("alice")))));
+        assertFalse(topByName.equals(null));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void record_nullCommandWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> metrics.record(null, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void record_groupsByCommandWord() {
+        metrics.record("list", 1_000, 2_000, 4_096, 7);
+        metrics.record("add", 3_000, 5_000, -1, 8);
+        metrics.recordSave("add", 9_000);
+        metrics.record("list", 1_000, 4_000, 4_096, 7);
+
+        List<CommandStatistics> statistics = metrics.getCommandStatistics();
+        assertEquals(2, statistics.size());
+
+        // Command words are listed alphabetically
+        CommandStatistics add = statistics.get(0);
+        assertEquals("add", add.getCommandWord());
+        assertEquals(1, add.getExecuteNanos().getCount());
+        assertEquals(9_000, add.getSaveNanos().getMax());
+        assertEquals(0, add.getAllocatedBytes().getCount());
+
+        CommandStatistics list = statistics.get(1);
+        assertEquals("list", list.getCommandWord());
+        assertEquals(2, list.getParseNanos().getCount());
+        assertEquals(4_000, list.getExecuteNanos().getMax());
+        assertEquals(0, list.getSaveNanos().getCount());
+        assertEquals(4_096, list.getAllocatedBytes().getP50());
+        assertEquals(7, list.getResultSize().getMax());
+    }
+
+    @Test
+    public void recordSave_nullCommandWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> metrics.recordSave(null, 0));
+    }
+
+    @Test
+    public void toTable() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.toTable());
+
+        metrics.record("list", 1_000_000, 2_500_000, 2_048, 7);
+        String table = metrics.toTable();
+        assertTrue(table.startsWith("command"));
+        assertTrue(table.contains("list"));
+        assertTrue(table.contains("2.50"));
+    }
+
+    @Test
+    public void reset_clearsStatistics() {
+        metrics.record("list", 1, 1, 1, 1);
+        metrics.reset();
+        assertTrue(metrics.getCommandStatistics().isEmpty());
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_measuredOrUnknown() {
+        long before = metrics.getCurrentThreadAllocatedBytes();
+        long after = metrics.getCurrentThreadAllocatedBytes();
+        assertTrue(before == -1 && after == -1 || after >= before);
+    }
+
+    @Test
+    public void registerMBean_statisticsReadableOverJmx() throws Exception {
+        metrics.record("list", 1_000, 2_000, 4_096, 7);
+        metrics.registerMBean();
+        // Registering again replaces the earlier registration
+        metrics.registerMBean();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CommandMetrics.MBEAN_NAME);
+        try {
+            CompositeData[] statistics = (CompositeData[]) server.getAttribute(name, "CommandStatistics");
+            assertEquals(1, statistics.length);
+            assertEquals("list", statistics[0].get("commandWord"));
+            assertEquals(2_000L, ((CompositeData) statistics[0].get("executeNanos")).get("max"));
+
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertTrue(metrics.getCommandStatistics().isEmpty());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
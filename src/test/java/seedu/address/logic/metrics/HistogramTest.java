@@ -0,0 +1,84 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void snapshot_noValues_allZero() {
+        assertEquals(new HistogramSnapshot(0, 0, 0, 0, 0, 0), new Histogram().snapshot());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(5.5, histogram.getMean());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(90));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertWithinPrecision(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(new HistogramSnapshot(1, 0, 0, 0, 0, 0), histogram.snapshot());
+    }
+
+    @Test
+    public void record_extremeValue_recorded() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void record_concurrentThreads_countsEveryValue() throws Exception {
+        Histogram histogram = new Histogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int value = 0; value < 10_000; value++) {
+                    histogram.record(value);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.04, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -2,18 +2,25 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_BATCH_LINE;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_NOT_ALLOWED_IN_BATCH;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -23,6 +30,9 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Note;
@@ -42,6 +52,27 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_batch(@TempDir Path temporaryFolder) throws Exception {
+        Path batchFile = temporaryFolder.resolve("batch.txt");
+        Files.write(batchFile, List.of("# clean up", "", "delete 1", "  delete 2  "));
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " " + batchFile);
+        assertEquals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_SECOND_PERSON)), List.of(3, 4)), command);
+    }
+
+    @Test
+    public void parseBatch_invalidLines_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_BATCH_LINE, 2, MESSAGE_UNKNOWN_COMMAND), ()
+            -> parser.parseBatch(List.of("delete 1", "unknownCommand")));
+        assertThrows(ParseException.class, String.format(MESSAGE_NOT_ALLOWED_IN_BATCH, 1, "undo"), ()
+            -> parser.parseBatch(List.of("undo", "delete 1")));
+        assertThrows(ParseException.class, String.format(MESSAGE_NOT_ALLOWED_IN_BATCH, 2, "batch"), ()
+            -> parser.parseBatch(List.of("delete 1", "batch other.txt")));
+        assertThrows(ParseException.class, BatchCommand.MESSAGE_NO_COMMANDS, ()
+            -> parser.parseBatch(List.of("", "# nothing to do")));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -84,6 +115,19 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_top() throws Exception {
+        TopCommand command = (TopCommand) parser.parseCommand(TopCommand.COMMAND_WORD + " 5 by/name");
+        assertEquals(new TopCommand(5, List.of(TopKeys.NAME)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals(new StatsCommand(metrics), new AddressBookParser(metrics).parseCommand(StatsCommand.COMMAND_WORD));
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
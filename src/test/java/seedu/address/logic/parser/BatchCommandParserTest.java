@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNREADABLE_BATCH_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validFile_returnsBatchCommand() throws IOException {
+        Path batchFile = temporaryFolder.resolve("batch.txt");
+        Files.write(batchFile, List.of("delete 1"));
+        assertParseSuccess(parser, "  " + batchFile + "  ",
+                new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1)));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path missingFile = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, missingFile.toString(), String.format(MESSAGE_UNREADABLE_BATCH_FILE, missingFile));
+    }
+}
@@ -5,11 +5,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Field;
+import seedu.address.model.person.PersonQuery.Term;
+import seedu.address.model.person.Priority;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +37,39 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldTerms_returnsFindCommand() {
+        PersonQuery expectedQuery = new PersonQuery(List.of(List.of(
+                Term.anyOf(List.of("alice", "bob")),
+                Term.of(Field.COMPANY, "acme"),
+                Term.of(Field.TAG, "vip"),
+                Term.of(Field.PRIORITY, "HIGH"),
+                Term.of(Field.TAG, "inactive").negate())));
+        assertParseSuccess(parser, "alice c/acme t/vip bob pr/high -t/inactive", new FindCommand(expectedQuery));
+        assertParseSuccess(parser, "alice AND c/acme t/vip bob pr/1 NOT t/inactive", new FindCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_alternatives_returnsFindCommand() {
+        PersonQuery expectedQuery = new PersonQuery(List.of(
+                List.of(Term.of(Field.NAME, "alice"), Term.anyOf(List.of("acme")).negate()),
+                List.of(Term.of(Field.PHONE, "9123"))));
+        assertParseSuccess(parser, "n/alice -acme OR p/9123", new FindCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "OR alice", invalidFormat);
+        assertParseFailure(parser, "alice OR", invalidFormat);
+        assertParseFailure(parser, "alice OR OR bob", invalidFormat);
+        assertParseFailure(parser, "alice NOT", invalidFormat);
+        assertParseFailure(parser, "AND alice", invalidFormat);
+        assertParseFailure(parser, "n/alex AND", invalidFormat);
+        assertParseFailure(parser, "alice AND OR bob", invalidFormat);
+        assertParseFailure(parser, "alice AND AND bob", invalidFormat);
+        assertParseFailure(parser, "alice t/", String.format(FindCommandParser.MESSAGE_MISSING_TERM_VALUE, "t/"));
+        assertParseFailure(parser, "pr/urgent", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/very-important", Tag.MESSAGE_CONSTRAINTS);
+    }
 }
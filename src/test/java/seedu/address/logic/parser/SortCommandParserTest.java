@@ -1,9 +1,12 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_SORT_KEY;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_SORT_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
@@ -34,8 +37,11 @@ public class SortCommandParserTest {
         // Test invalid sort keys
         assertParseFailure(parser, " number", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "number"));
         assertParseFailure(parser, " desc", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "desc"));
-        assertParseFailure(parser, " n/ e/", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "n/ e/"));
-        assertParseFailure(parser, " foo bar", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "foo bar"));
+        assertParseFailure(parser, " n/ e/", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "n/"));
+        assertParseFailure(parser, " foo bar", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "foo"));
+        assertParseFailure(parser, " name desc asc", String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "asc"));
+        assertParseFailure(parser, " name nullslast desc",
+                String.format(MESSAGE_INVALID_SORT_COMMAND_FORMAT, "desc"));
     }
 
     @Test
@@ -45,7 +51,21 @@ public class SortCommandParserTest {
         assertParseSuccess(parser, "phone", new SortCommand(SortKeys.PHONE));
         assertParseSuccess(parser, "email", new SortCommand(SortKeys.EMAIL));
         assertParseSuccess(parser, "address", new SortCommand(SortKeys.ADDRESS));
+        assertParseSuccess(parser, "company", new SortCommand(SortKeys.COMPANY));
         assertParseSuccess(parser, "tag", new SortCommand(SortKeys.TAG));
         assertParseSuccess(parser, "priority", new SortCommand(SortKeys.PRIORITY));
     }
+
+    @Test
+    public void parse_multipleKeys_success() {
+        assertParseSuccess(parser, "priority desc name asc", new SortCommand(List.of(
+                new SortCriterion(SortKeys.PRIORITY, true, false), SortCriterion.ascending(SortKeys.NAME))));
+        assertParseSuccess(parser, " EMAIL  nullsfirst tag DESC nullslast ", new SortCommand(List.of(
+                new SortCriterion(SortKeys.EMAIL, false, true), new SortCriterion(SortKeys.TAG, true, false))));
+    }
+
+    @Test
+    public void parse_repeatedKey_failure() {
+        assertParseFailure(parser, "name phone name desc", String.format(MESSAGE_DUPLICATE_SORT_KEY, "name"));
+    }
 }
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_SORT_KEY;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TOP_KEY;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+public class TopCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE);
+
+    private final TopCommandParser parser = new TopCommandParser();
+
+    @Test
+    public void parse_countOnly_ranksByPriority() {
+        assertParseSuccess(parser, " 20", new TopCommand(20, List.of(TopKeys.PRIORITY)));
+    }
+
+    @Test
+    public void parse_keysAndKeywords_success() {
+        assertParseSuccess(parser, " 20 by/priority then/noteLastEdited",
+                new TopCommand(20, List.of(TopKeys.PRIORITY, TopKeys.NOTE_LAST_EDITED)));
+        assertParseSuccess(parser, " 3 alice acme by/NAME then/priority",
+                new TopCommand(3, List.of(TopKeys.NAME, TopKeys.PRIORITY),
+                        new NameContainsKeywordsPredicate(List.of("alice", "acme"))));
+    }
+
+    @Test
+    public void parse_invalidCount_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -2 by/name", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " alice", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidKeys_failure() {
+        assertParseFailure(parser, " 5 by/phone", String.format(MESSAGE_INVALID_TOP_KEY, "phone"));
+        assertParseFailure(parser, " 5 then/name", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 5 by/name then/name", String.format(MESSAGE_DUPLICATE_SORT_KEY, "name"));
+    }
+}
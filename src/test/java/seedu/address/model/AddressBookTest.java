@@ -79,6 +79,27 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenPersonsChange() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,171 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private final List<Person> source = new ArrayList<>(getTypicalPersons());
+    private final FilteredPersonList filteredPersons = new FilteredPersonList(source);
+    private int testCount;
+
+    @BeforeEach
+    public void setUp() {
+        Predicate<Person> isMeier = person -> {
+            testCount++;
+            return person.getName().fullName.endsWith("Meier");
+        };
+        filteredPersons.setPredicate(isMeier, source);
+        testCount = 0;
+    }
+
+    @Test
+    public void constructor_showsEveryPerson() {
+        assertEquals(source, new FilteredPersonList(source).asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredPersons.setPredicate(null, source));
+    }
+
+    @Test
+    public void setPredicate_showsMatchingPersonsInOrder() {
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_givenMatches_testsNoPersonAndFiltersLaterChanges() {
+        Predicate<Person> isKurz = person -> {
+            testCount++;
+            return person.getName().fullName.endsWith("Kurz");
+        };
+        filteredPersons.setPredicate(isKurz, new int[] {source.indexOf(CARL)}, List.of(CARL));
+        assertEquals(List.of(CARL), filteredPersons.asUnmodifiableObservableList());
+        assertEquals(0, testCount);
+
+        Person kurz = new PersonBuilder().withName("Amy Kurz").withPhone("111").build();
+        source.add(0, kurz);
+        filteredPersons.personInserted(0, kurz);
+        source.add(HOON);
+        filteredPersons.personInserted(source.size() - 1, HOON);
+        assertEquals(List.of(kurz, CARL), filteredPersons.asUnmodifiableObservableList());
+        assertEquals(2, testCount);
+    }
+
+    @Test
+    public void personInserted_testsOnlyInsertedPerson() {
+        source.add(HOON);
+        filteredPersons.personInserted(source.size() - 1, HOON);
+        assertEquals(List.of(BENSON, DANIEL, HOON), filteredPersons.asUnmodifiableObservableList());
+
+        // Inserting before shown persons keeps them in address book order
+        Person meier = new PersonBuilder().withName("Amy Meier").withPhone("111").build();
+        source.add(0, meier);
+        filteredPersons.personInserted(0, meier);
+        assertEquals(List.of(meier, BENSON, DANIEL, HOON), filteredPersons.asUnmodifiableObservableList());
+
+        // Non-matching person is not shown
+        Person other = new PersonBuilder().withName("Zed Kurz").withPhone("222").build();
+        source.add(1, other);
+        filteredPersons.personInserted(1, other);
+        assertEquals(List.of(meier, BENSON, DANIEL, HOON), filteredPersons.asUnmodifiableObservableList());
+
+        assertEquals(3, testCount);
+        assertMatchesSource();
+    }
+
+    @Test
+    public void personReplaced_testsOnlyReplacedPerson() {
+        // Shown person still matching is replaced in place
+        int bensonIndex = source.indexOf(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withPriority("HIGH").build();
+        source.set(bensonIndex, editedBenson);
+        filteredPersons.personReplaced(bensonIndex, editedBenson);
+        assertEquals(List.of(editedBenson, DANIEL), filteredPersons.asUnmodifiableObservableList());
+
+        // Shown person no longer matching is hidden
+        int danielIndex = source.indexOf(DANIEL);
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName("Daniel Kurz").build();
+        source.set(danielIndex, renamedDaniel);
+        filteredPersons.personReplaced(danielIndex, renamedDaniel);
+        assertEquals(List.of(editedBenson), filteredPersons.asUnmodifiableObservableList());
+
+        // Hidden person now matching is shown in address book order
+        int aliceIndex = source.indexOf(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        source.set(aliceIndex, renamedAlice);
+        filteredPersons.personReplaced(aliceIndex, renamedAlice);
+        assertEquals(List.of(renamedAlice, editedBenson), filteredPersons.asUnmodifiableObservableList());
+
+        assertEquals(3, testCount);
+        assertMatchesSource();
+    }
+
+    @Test
+    public void personRemoved_doesNotTestAnyPerson() {
+        int carlIndex = source.indexOf(CARL);
+        source.remove(carlIndex);
+        filteredPersons.personRemoved(carlIndex);
+
+        int bensonIndex = source.indexOf(BENSON);
+        source.remove(bensonIndex);
+        filteredPersons.personRemoved(bensonIndex);
+
+        assertEquals(List.of(DANIEL), filteredPersons.asUnmodifiableObservableList());
+        assertEquals(0, testCount);
+        assertMatchesSource();
+    }
+
+    @Test
+    public void reorder_doesNotTestAnyPerson() {
+        source.sort(Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        filteredPersons.reorder(source);
+
+        assertEquals(List.of(DANIEL, BENSON), filteredPersons.asUnmodifiableObservableList());
+        assertEquals(0, testCount);
+        assertMatchesSource();
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                filteredPersons.asUnmodifiableObservableList().remove(0));
+    }
+
+    /**
+     * Asserts that the view agrees with filtering the whole source again, so later changes are located correctly.
+     */
+    private void assertMatchesSource() {
+        List<Person> expected = new ArrayList<>();
+        for (Person person : source) {
+            if (filteredPersons.getPredicate().test(person)) {
+                expected.add(person);
+            }
+        }
+        assertEquals(expected, filteredPersons.asUnmodifiableObservableList());
+
+        // Removing the last person must hide exactly the last shown person, if it is shown
+        Person last = source.remove(source.size() - 1);
+        filteredPersons.personRemoved(source.size());
+        expected.remove(last);
+        assertEquals(expected, filteredPersons.asUnmodifiableObservableList());
+    }
+}
@@ -7,16 +7,25 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.UndoHistoryMode;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +102,215 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void deletePerson_personNotInAddressBook_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> modelManager.deletePerson(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> modelManager.setPerson(ALICE, BENSON));
+    }
+
+    @Test
+    public void changePerson_filterActive_keepsFilter() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+
+        Person hoon = new PersonBuilder().withName("Hoon Meier").withPhone("8482424").build();
+        modelManager.addPerson(hoon);
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+        modelManager.sortPersonList(Comparator.comparing(person -> person.getName().fullName));
+
+        assertEquals(Arrays.asList(DANIEL, hoon), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_afterEarlierPersonDeleted_showsMatchesInListOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        Person hoon = new PersonBuilder().withName("Hoon Meier").withPhone("8482424").build();
+        modelManager.addPerson(hoon);
+
+        modelManager.findPersons(PersonQuery.anyOf(Arrays.asList("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL, hoon), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(DANIEL, hoon), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undoRedo_restoresCommittedStates() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                modelManager.getAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_beyondUndoHistoryLimit_dropsOldestStates() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(2);
+        ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+
+        model.addPerson(ALICE);
+        model.commitAddressBook();
+        model.addPerson(BENSON);
+        model.commitAddressBook();
+        model.addPerson(CARL);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        model.undoAddressBook();
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), model.getAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_nothingChanged_addsNoUndoStep() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+
+            model.commitAddressBook();
+            assertFalse(model.canUndoAddressBook());
+
+            model.addPerson(ALICE);
+            model.commitAddressBook();
+            model.commitAddressBook();
+            model.undoAddressBook();
+            assertEquals(new AddressBook(), model.getAddressBook());
+            assertFalse(model.canUndoAddressBook());
+
+            // an empty commit keeps the states that can be redone
+            model.commitAddressBook();
+            assertTrue(model.canRedoAddressBook());
+        }
+    }
+
+    @Test
+    public void undoRedo_deltaMode_revertsEachKindOfChange() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(UndoHistoryMode.DELTA);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        AddressBook initial = new AddressBook(model.getAddressBook());
+
+        model.addPerson(new PersonBuilder().withName("Zed").withPhone("123").build());
+        model.commitAddressBook();
+        AddressBook afterAdd = new AddressBook(model.getAddressBook());
+
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+        AddressBook afterDelete = new AddressBook(model.getAddressBook());
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("edited@example.com").build();
+        model.setPerson(ALICE, editedAlice);
+        model.commitAddressBook();
+        AddressBook afterEdit = new AddressBook(model.getAddressBook());
+
+        model.sortPersonList(Comparator.comparing(person -> person.getPhone().value));
+        model.commitAddressBook();
+        AddressBook afterSort = new AddressBook(model.getAddressBook());
+
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertEquals(afterSort, model.getAddressBook());
+        model.undoAddressBook();
+        assertEquals(afterEdit, model.getAddressBook());
+        model.undoAddressBook();
+        assertEquals(afterDelete, model.getAddressBook());
+        model.undoAddressBook();
+        assertEquals(afterAdd, model.getAddressBook());
+        model.undoAddressBook();
+        assertEquals(initial, model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+
+        model.redoAddressBook();
+        model.redoAddressBook();
+        model.redoAddressBook();
+        assertEquals(afterEdit, model.getAddressBook());
+        model.redoAddressBook();
+        model.redoAddressBook();
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_deltaModeWithUncommittedChange_revertsToPreviousCommit() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(UndoHistoryMode.DELTA);
+        ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+
+        model.addPerson(ALICE);
+        model.commitAddressBook();
+        model.addPerson(BENSON);
+
+        model.undoAddressBook();
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void transaction_commitsInsideTransactionDeferred_oneUndoRevertsTransaction() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+
+            model.beginTransaction();
+            model.addPerson(ALICE);
+            model.commitAddressBook();
+            model.addPerson(BENSON);
+            model.commitAddressBook();
+            model.commitTransaction();
+
+            model.undoAddressBook();
+            assertEquals(new AddressBook(), model.getAddressBook());
+            assertFalse(model.canUndoAddressBook());
+        }
+    }
+
+    @Test
+    public void rollbackTransaction_revertsChangesSinceBegin() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+            model.addPerson(ALICE);
+            model.commitAddressBook();
+            model.addPerson(CARL);
+
+            model.beginTransaction();
+            model.addPerson(BENSON);
+            model.commitAddressBook();
+            model.deletePerson(ALICE);
+            model.rollbackTransaction();
+
+            // changes made before the transaction began are kept
+            assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(), model.getAddressBook());
+            model.commitAddressBook();
+            model.undoAddressBook();
+            assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), model.getAddressBook());
+        }
+    }
+
+    @Test
+    public void transaction_unbalancedCalls_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -85,4 +86,12 @@ public class CompanyTest {
         Company company2 = new Company("Other Corp");
         assertFalse(company1.hashCode() == company2.hashCode());
     }
+
+    @Test
+    public void of_equalValues_returnsSameInstance() {
+        Company company = Company.of("Pooled Corp");
+        assertSame(company, Company.of(new String("Pooled Corp")));
+        assertEquals(new Company("Pooled Corp"), company);
+        assertThrows(IllegalArgumentException.class, () -> Company.of(" Corp"));
+    }
 }
@@ -0,0 +1,203 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersistentPersonList.Splice;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersistentPersonListTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        assertTrue(PersistentPersonList.empty().isEmpty());
+        assertEquals(new ArrayList<>(), PersistentPersonList.empty().toList());
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        PersistentPersonList list = PersistentPersonList.of(persons);
+        assertEquals(3, list.size());
+        assertEquals(persons, list.toList());
+        assertEquals(BENSON, list.get(1));
+    }
+
+    @Test
+    public void updates_doNotAffectEarlierVersions() {
+        PersistentPersonList original = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+
+        PersistentPersonList appended = original.append(CARL);
+        PersistentPersonList replaced = original.set(0, CARL);
+        PersistentPersonList removed = original.remove(0);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), original.toList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), appended.toList());
+        assertEquals(Arrays.asList(CARL, BENSON), replaced.toList());
+        assertEquals(Arrays.asList(BENSON), removed.toList());
+    }
+
+    @Test
+    public void updates_acrossManyChunks_matchArrayList() {
+        List<Person> expected = new ArrayList<>();
+        PersistentPersonList list = PersistentPersonList.empty();
+        for (int i = 0; i < PersistentPersonList.CHUNK_CAPACITY * 3 + 5; i++) {
+            Person person = new PersonBuilder().withPhone(String.format("%08d", i)).build();
+            expected.add(person);
+            list = list.append(person);
+        }
+
+        for (int i = expected.size() - 1; i >= 0; i -= 7) {
+            expected.remove(i);
+            list = list.remove(i);
+        }
+        Person replacement = new PersonBuilder().withPhone("99999999").build();
+        expected.set(100, replacement);
+        list = list.set(100, replacement);
+
+        assertEquals(expected, list.toList());
+        assertEquals(expected.size(), list.size());
+        assertEquals(replacement, list.get(100));
+
+        List<Person> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    public void insert_intoFullChunk_splitsChunk() {
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < PersistentPersonList.CHUNK_CAPACITY; i++) {
+            expected.add(new PersonBuilder().withPhone(String.format("%08d", i)).build());
+        }
+        PersistentPersonList list = PersistentPersonList.of(expected);
+
+        Person inserted = new PersonBuilder().withPhone("99999999").build();
+        PersistentPersonList grown = list.insert(10, inserted);
+        expected.add(10, inserted);
+
+        assertEquals(expected, grown.toList());
+        assertEquals(ALICE, grown.insert(grown.size(), ALICE).get(grown.size()));
+        assertEquals(PersistentPersonList.CHUNK_CAPACITY, list.size());
+    }
+
+    @Test
+    public void updates_acrossSeveralLevels_matchArrayList() {
+        // Enough persons for leaves, branches of leaves and a branch of branches
+        int initialSize = PersistentPersonList.CHUNK_CAPACITY * PersistentPersonList.BRANCH_CAPACITY * 2;
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < initialSize; i++) {
+            expected.add(new PersonBuilder().withPhone(String.format("%08d", i)).build());
+        }
+        PersistentPersonList list = PersistentPersonList.of(expected);
+        PersistentPersonList original = list;
+
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            PersistentPersonList before = list;
+            int index = random.nextInt(expected.size());
+            Person person = new PersonBuilder().withPhone(String.format("9%07d", i)).build();
+            Splice expectedSplice;
+            switch (random.nextInt(4)) {
+            case 0:
+                expected.add(index, person);
+                list = list.insert(index, person);
+                expectedSplice = new Splice(index, 0, Arrays.asList(person));
+                break;
+            case 1:
+                expected.set(index, person);
+                list = list.set(index, person);
+                expectedSplice = new Splice(index, 1, Arrays.asList(person));
+                break;
+            default:
+                // Remove more often than insert so that nodes become underfull and are merged
+                expected.remove(index);
+                list = list.remove(index);
+                expectedSplice = new Splice(index, 1, new ArrayList<>());
+                break;
+            }
+            assertEquals(expectedSplice, list.changesSince(before));
+        }
+
+        assertEquals(expected, list.toList());
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        List<Person> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated);
+        assertEquals(initialSize, original.size());
+
+        List<Person> spliced = original.toList();
+        list.changesSince(original).applyTo(spliced);
+        assertEquals(expected, spliced);
+    }
+
+    @Test
+    public void removeAll_emptiesList() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PersistentPersonList.CHUNK_CAPACITY * 5; i++) {
+            persons.add(new PersonBuilder().withPhone(String.format("%08d", i)).build());
+        }
+        PersistentPersonList list = PersistentPersonList.of(persons);
+        while (!list.isEmpty()) {
+            list = list.remove(list.size() / 2);
+        }
+        assertEquals(PersistentPersonList.empty(), list);
+        assertEquals(Arrays.asList(ALICE), list.append(ALICE).toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(2, BENSON));
+    }
+
+    @Test
+    public void changesSince_singleUpdates_returnsMinimalSplice() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PersistentPersonList.CHUNK_CAPACITY * 3; i++) {
+            persons.add(new PersonBuilder().withPhone(String.format("%08d", i)).build());
+        }
+        PersistentPersonList original = PersistentPersonList.of(persons);
+
+        assertTrue(original.changesSince(original).isEmpty());
+        assertEquals(new Splice(original.size(), 0, Arrays.asList(ALICE)),
+                original.append(ALICE).changesSince(original));
+        assertEquals(new Splice(70, 0, Arrays.asList(ALICE)), original.insert(70, ALICE).changesSince(original));
+        assertEquals(new Splice(100, 1, Arrays.asList(ALICE)), original.set(100, ALICE).changesSince(original));
+        assertEquals(new Splice(5, 1, new ArrayList<>()), original.remove(5).changesSince(original));
+    }
+
+    @Test
+    public void changesSince_unrelatedLists_splicesReplaceOlderList() {
+        PersistentPersonList older = PersistentPersonList.of(Arrays.asList(ALICE, BENSON, CARL));
+        PersistentPersonList newer = PersistentPersonList.of(Arrays.asList(CARL, BENSON, ALICE));
+
+        Splice splice = newer.changesSince(older);
+        List<Person> applied = older.toList();
+        splice.applyTo(applied);
+        assertEquals(newer.toList(), applied);
+        assertEquals(new Splice(0, 3, Arrays.asList(CARL, BENSON, ALICE)), splice);
+    }
+
+    @Test
+    public void applyTo_rangeOutsideList_throwsIndexOutOfBoundsException() {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Splice(1, 1, new ArrayList<>()).applyTo(persons));
+    }
+}
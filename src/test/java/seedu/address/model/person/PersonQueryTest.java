@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.Field;
+import seedu.address.model.person.PersonQuery.Term;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private final Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+            .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6").withCompany("Acme Corp")
+            .withPriority("HIGH").withTags("vip", "friends").build();
+    private final Person bare = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+
+    @Test
+    public void constructor_emptyClauses_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(List.of(List.of())));
+    }
+
+    @Test
+    public void termOf_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Term.of(Field.PRIORITY, "urgent"));
+        assertThrows(IllegalArgumentException.class, () -> Term.of(Field.TAG, "not a tag"));
+        assertThrows(IllegalArgumentException.class, () -> Term.of(Field.NAME, ""));
+        assertThrows(IllegalArgumentException.class, () -> Term.of(Field.ANY, "alice"));
+    }
+
+    @Test
+    public void termTest_substringFields_matchIgnoringCase() {
+        assertTrue(Term.of(Field.NAME, "PAUL").test(person));
+        assertTrue(Term.of(Field.PHONE, "4351").test(person));
+        assertTrue(Term.of(Field.EMAIL, "Example").test(person));
+        assertTrue(Term.of(Field.ADDRESS, "jurong").test(person));
+        assertTrue(Term.of(Field.COMPANY, "acme").test(person));
+
+        // value in another field only
+        assertFalse(Term.of(Field.NAME, "acme").test(person));
+
+        // missing optional fields never match
+        assertFalse(Term.of(Field.EMAIL, "example").test(bare));
+        assertFalse(Term.of(Field.COMPANY, "acme").test(bare));
+    }
+
+    @Test
+    public void termTest_tagAndPriority_matchExactly() {
+        assertTrue(Term.of(Field.TAG, "VIP").test(person));
+        assertFalse(Term.of(Field.TAG, "friend").test(person));
+        assertTrue(Term.of(Field.PRIORITY, "1").test(person));
+        assertFalse(Term.of(Field.PRIORITY, "LOW").test(person));
+        assertFalse(Term.of(Field.PRIORITY, "HIGH").test(bare));
+    }
+
+    @Test
+    public void termTest_negated_matchesOtherPersons() {
+        Term notVip = Term.of(Field.TAG, "vip").negate();
+        assertFalse(notVip.test(person));
+        assertTrue(notVip.test(bare));
+        assertEquals(Term.of(Field.TAG, "vip"), notVip.negate());
+    }
+
+    @Test
+    public void test_clauses_matchIfAnyClauseFullyMatches() {
+        PersonQuery query = new PersonQuery(List.of(
+                List.of(Term.of(Field.TAG, "vip"), Term.of(Field.NAME, "bob")),
+                List.of(Term.anyOf(List.of("choo", "nobody")))));
+        assertFalse(query.test(person));
+        assertTrue(query.test(bare));
+
+        PersonQuery vipAlice = new PersonQuery(List.of(List.of(Term.of(Field.TAG, "vip"),
+                Term.of(Field.NAME, "alice"))));
+        assertTrue(vipAlice.test(person));
+    }
+
+    @Test
+    public void anyOf_matchesLikeNameContainsKeywordsPredicate() {
+        for (List<String> keywords : List.of(List.of("alice"), List.of("zebra", "acme"), List.<String>of())) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            assertEquals(predicate.test(person), PersonQuery.anyOf(keywords).test(person));
+            assertEquals(predicate.test(bare), PersonQuery.anyOf(keywords).test(bare));
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = PersonQuery.anyOf(List.of("alice"));
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(PersonQuery.anyOf(List.of("alice"))));
+        assertFalse(query.equals(PersonQuery.anyOf(List.of("bob"))));
+        assertFalse(query.equals(new PersonQuery(List.of(List.of(Term.of(Field.NAME, "alice"))))));
+        assertFalse(query.equals(null));
+        assertEquals(Term.of(Field.PRIORITY, "high"), Term.of(Field.PRIORITY, "1"));
+    }
+}
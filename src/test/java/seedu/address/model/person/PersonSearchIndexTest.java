@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.Field;
+import seedu.address.model.person.PersonQuery.Term;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void findCandidates_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCandidates(null));
+    }
+
+    @Test
+    public void findCandidates_keywordInAnyField_returnsPerson() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6")
+                .withCompany("Acme Corp").withPriority("HIGH").withTags("friends").build();
+        index.add(person);
+
+        for (String keyword : Arrays.asList("PAUL", "4351", "example", "jurong", "acme", "high", "riend")) {
+            assertEquals(Optional.of(List.of(person)), index.findCandidates(anyOf(keyword)), keyword);
+        }
+        assertEquals(Optional.of(List.of()), index.findCandidates(anyOf("zebra")));
+    }
+
+    @Test
+    public void findCandidates_afterRemoveAndReAdd_returnsOnlyCurrentPersons() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        index.setAll(persons);
+        for (Person person : persons) {
+            index.remove(person);
+        }
+        index.add(ALICE);
+
+        assertEquals(Optional.of(List.of(ALICE)), index.findCandidates(anyOf("alice")));
+        assertEquals(Optional.of(List.of()), index.findCandidates(anyOf("benson")));
+    }
+
+    @Test
+    public void findCandidates_staleSlotsOfRemovedPersons_skipped() {
+        index.setAll(getTypicalPersons());
+        index.remove(BENSON);
+
+        // Benson's postings are still in place, but his freed slot yields no candidate
+        assertEquals(Optional.of(List.of()), index.findCandidates(anyOf("benson")));
+    }
+
+    @Test
+    public void findCandidates_queryNeverLeavesOutMatchingPerson() {
+        List<Person> persons = SampleDataGenerator.generatePersons(400, 13);
+        index.setAll(persons);
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(List.of(Term.of(Field.TAG, "friends")))),
+                new PersonQuery(List.of(List.of(Term.of(Field.PRIORITY, "HIGH"), Term.of(Field.NAME, "an")))),
+                new PersonQuery(List.of(List.of(Term.of(Field.TAG, "colleagues"), Term.of(Field.ADDRESS, "street"),
+                        Term.of(Field.PRIORITY, "LOW").negate()))),
+                new PersonQuery(List.of(List.of(Term.anyOf(List.of("lee", "tan"))),
+                        List.of(Term.of(Field.PRIORITY, "MEDIUM")))),
+                new PersonQuery(List.of(List.of(Term.of(Field.TAG, "nosuchtag")))));
+        for (PersonQuery query : queries) {
+            Set<Person> candidates = new HashSet<>(index.findCandidates(query).get());
+            for (Person person : persons) {
+                if (query.test(person)) {
+                    assertTrue(candidates.contains(person), query + " " + person);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_tagAndPriority_exact() {
+        Person vip = new PersonBuilder().withName("Vip High").withPhone("111").withPriority("HIGH")
+                .withTags("vip").build();
+        Person vipLow = new PersonBuilder().withName("Vip Low").withPhone("222").withPriority("LOW")
+                .withTags("VIP").build();
+        Person other = new PersonBuilder().withName("Other High").withPhone("333").withPriority("HIGH").build();
+        index.setAll(List.of(vip, vipLow, other));
+
+        assertEquals(Optional.of(List.of(vip)), index.findCandidates(new PersonQuery(List.of(List.of(
+                Term.of(Field.TAG, "vip"), Term.of(Field.PRIORITY, "HIGH"))))));
+
+        // Buckets follow removals
+        index.remove(vip);
+        index.add(vip);
+        index.remove(vipLow);
+        assertEquals(Optional.of(List.of(vip)), index.findCandidates(new PersonQuery(List.of(List.of(
+                Term.of(Field.TAG, "vip"))))));
+    }
+
+    @Test
+    public void findCandidates_severalTags_intersectsBitmaps() {
+        List<Person> persons = SampleDataGenerator.generatePersons(300, 17);
+        index.setAll(persons);
+        List<Tag> tags = new ArrayList<>(persons.stream().flatMap(person -> person.getTags().stream())
+                .distinct().limit(3).collect(Collectors.toList()));
+        for (Tag first : tags) {
+            for (Tag second : tags) {
+                PersonQuery query = new PersonQuery(List.of(List.of(Term.of(Field.TAG, first.tagName),
+                        Term.of(Field.TAG, second.tagName))));
+                // Exact lookups return exactly the matching persons
+                Set<Person> expected = persons.stream().filter(query).collect(Collectors.toSet());
+                assertEquals(expected, new HashSet<>(index.findCandidates(query).get()), query.toString());
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_onlyNegatedOrShortTerms_returnsEmptyOptional() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Optional.empty(), index.findCandidates(new PersonQuery(List.of(List.of(
+                Term.of(Field.TAG, "friends").negate(), Term.of(Field.NAME, "al"))))));
+    }
+
+    private static PersonQuery anyOf(String keyword) {
+        return PersonQuery.anyOf(List.of(keyword));
+    }
+}
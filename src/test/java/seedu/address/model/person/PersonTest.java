@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,6 +14,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -119,4 +123,41 @@ public class PersonTest {
         assertTrue(ALICE.isSamePerson(editedAlice));
     }
 
+    @Test
+    public void getSearchText_lowerCasedValuesOnSeparateLines() {
+        Person person = new PersonBuilder().withName("Amy Bee").withPhone("123").withEmail("Amy@Example.com")
+                .withAddress("Main St").withTags("Friend").build();
+        String searchText = person.getSearchText();
+        assertTrue(searchText.contains("amy bee"));
+        assertTrue(searchText.contains("amy@example.com"));
+        assertTrue(searchText.contains("friend"));
+        assertFalse(searchText.contains("bee123"));
+        assertSame(searchText, person.getSearchText());
+    }
+
+    @Test
+    public void getNameKey_ignoresCase() {
+        Person lowerCase = new PersonBuilder().withName("alice").build();
+        Person upperCase = new PersonBuilder().withName("ALICE").build();
+        Person other = new PersonBuilder().withName("Bob").build();
+        assertEquals(0, lowerCase.getNameKey().compareTo(upperCase.getNameKey()));
+        assertTrue(upperCase.getNameKey().compareTo(other.getNameKey()) < 0);
+        assertSame(lowerCase.getNameKey(), lowerCase.getNameKey());
+    }
+
+    @Test
+    public void getOptionalFieldKeys_missingField_returnsNull() {
+        Person person = new Person(new Name("Amy"), new Phone("123"), null, null, null, Collections.emptySet());
+        assertNull(person.getEmailKey());
+        assertNull(person.getAddressKey());
+        assertNull(person.getCompanyKey());
+        assertNull(person.getMinimalTagKey());
+    }
+
+    @Test
+    public void getMinimalTagKey_smallestTagIgnoringCase() {
+        Person person = new PersonBuilder().withTags("zeta", "Alpha", "beta").build();
+        Person alpha = new PersonBuilder().withTags("alpha").build();
+        assertEquals(0, person.getMinimalTagKey().compareTo(alpha.getMinimalTagKey()));
+    }
 }
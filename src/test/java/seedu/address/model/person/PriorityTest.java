@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -189,4 +190,17 @@ public class PriorityTest {
 
         assertEquals(priority1.getLevel(), priority2.getLevel());
     }
+
+    @Test
+    public void of_sameLevel_returnsSameInstance() {
+        assertSame(Priority.of(Priority.Level.HIGH), Priority.of("high"));
+        assertSame(Priority.of("3"), Priority.of(" MEDIUM "));
+        assertEquals(new Priority("LOW"), Priority.of("5"));
+    }
+
+    @Test
+    public void of_invalidPriority_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Priority.of("6"));
+        assertThrows(NullPointerException.class, () -> Priority.of((String) null));
+    }
 }
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedPersonIndexTest {
+
+    private static final Comparator<Person> BY_PRIORITY = Comparator.comparing(person ->
+            person.getPriority() != null ? person.getPriority().getLevel().getNumericValue() : Integer.MAX_VALUE);
+    private static final Comparator<Person> BY_NAME =
+            Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+
+    @Test
+    public void constructor_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedPersonIndex(null, List.of()));
+    }
+
+    @Test
+    public void sort_sameAsStableSort() {
+        List<Person> persons = SampleDataGenerator.generatePersons(500, 7);
+        for (Comparator<Person> comparator : List.of(BY_PRIORITY, BY_NAME)) {
+            SortedPersonIndex index = new SortedPersonIndex(comparator, persons);
+            assertEquals(stableSort(persons, comparator), index.sort(persons));
+        }
+    }
+
+    @Test
+    public void sort_equalKeys_keepCurrentOrder() {
+        Person first = new PersonBuilder().withName("First").withPhone("111").withPriority("HIGH").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("222").withPriority("LOW").build();
+        Person third = new PersonBuilder().withName("Third").withPhone("333").withPriority("HIGH").build();
+        SortedPersonIndex index = new SortedPersonIndex(BY_PRIORITY, List.of(first, second, third));
+
+        assertEquals(2, index.getDistinctKeyCount());
+        assertEquals(List.of(first, third, second), index.sort(List.of(first, second, third)));
+        assertEquals(List.of(third, first, second), index.sort(List.of(third, second, first)));
+    }
+
+    @Test
+    public void addRemove_keptInSync() {
+        List<Person> persons = new ArrayList<>(SampleDataGenerator.generatePersons(200, 11));
+        SortedPersonIndex index = new SortedPersonIndex(BY_NAME, persons);
+
+        // Remove every third person and add edited copies of some of them
+        for (int i = persons.size() - 1; i >= 0; i -= 3) {
+            Person removed = persons.remove(i);
+            index.remove(removed);
+            if (i % 2 == 0) {
+                Person edited = new PersonBuilder(removed).withName("Renamed " + i).build();
+                persons.add(edited);
+                index.add(edited);
+            }
+        }
+        Collections.shuffle(persons, new Random(3));
+
+        assertEquals(stableSort(persons, BY_NAME), index.sort(persons));
+    }
+
+    @Test
+    public void remove_lastPersonWithKey_removesKey() {
+        Person high = new PersonBuilder().withName("High").withPriority("HIGH").build();
+        Person low = new PersonBuilder().withName("Low").withPhone("222").withPriority("LOW").build();
+        SortedPersonIndex index = new SortedPersonIndex(BY_PRIORITY, List.of(high, low));
+
+        index.remove(high);
+        assertEquals(1, index.getDistinctKeyCount());
+        assertEquals(List.of(low), index.sort(List.of(low)));
+    }
+
+    @Test
+    public void fromSorted_sameAsBuiltIndex() {
+        List<Person> persons = SampleDataGenerator.generatePersons(300, 5);
+        Person[] sorted = stableSort(persons, BY_PRIORITY).toArray(new Person[0]);
+        SortedPersonIndex index = SortedPersonIndex.fromSorted(BY_PRIORITY, sorted);
+        assertEquals(new SortedPersonIndex(BY_PRIORITY, persons).getDistinctKeyCount(), index.getDistinctKeyCount());
+
+        // The index built from a sorted run keeps working after changes
+        List<Person> changed = new ArrayList<>(persons);
+        Person removed = changed.remove(0);
+        index.remove(removed);
+        Person edited = new PersonBuilder(removed).withPriority("LOW").build();
+        changed.add(edited);
+        index.add(edited);
+        Collections.shuffle(changed, new Random(1));
+        assertEquals(stableSort(changed, BY_PRIORITY), index.sort(changed));
+    }
+
+    private static List<Person> stableSort(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(comparator);
+        return sorted;
+    }
+}
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -129,6 +130,33 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersonAtIndex_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(0, BOB));
+    }
+
+    @Test
+    public void setPersonAtIndex_indexFromIndexOf_replacesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(uniquePersonList.indexOf(BOB), editedBob);
+        assertEquals(Arrays.asList(ALICE, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.indexOf(editedBob));
+    }
+
+    @Test
+    public void removeAtIndex_indexFromIndexOf_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(uniquePersonList.indexOf(ALICE));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -164,6 +192,97 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void indexOf_afterInsertAndRemove_returnsShiftedPositions() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(0, carl);
+        assertEquals(0, uniquePersonList.indexOf(carl));
+        assertEquals(1, uniquePersonList.indexOf(ALICE));
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+        assertEquals(-1, uniquePersonList.indexOf(new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB + "x").build()));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void sort_afterChanges_sortsCurrentPersons() {
+        Comparator<Person> byName = Comparator.comparing(person -> person.getName().fullName);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort(byName);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        // The sorted index built by the first sort follows later changes
+        Person amy = new PersonBuilder().withName("Amy").withPhone("123").build();
+        Person carl = new PersonBuilder(ALICE).withName("Carl").build();
+        uniquePersonList.add(amy);
+        uniquePersonList.setPerson(ALICE, carl);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.sort(byName);
+        assertEquals(Arrays.asList(amy, carl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sort_equalKeys_keepsOrder() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort((first, second) -> 0);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sort_aboveParallelThreshold_stableAndFollowsChanges() {
+        Comparator<Person> byPriority = Comparator.comparing(person -> person.getPriority() == null ? 0 : 1);
+        Person amy = new PersonBuilder().withName("Amy").withPhone("123").withPriority("HIGH").build();
+        uniquePersonList.add(amy);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort(byPriority, 0);
+        assertEquals(Arrays.asList(BOB, ALICE, amy), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BOB);
+        uniquePersonList.sort(byPriority, 0);
+        assertEquals(Arrays.asList(ALICE, BOB, amy), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,35 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void intern_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> TagDictionary.intern(null));
+        assertThrows(IllegalArgumentException.class, () -> TagDictionary.intern("not valid"));
+    }
+
+    @Test
+    public void intern_sameName_sameTagAndId() {
+        Tag tag = TagDictionary.intern("dictionaryTest");
+        assertSame(tag, TagDictionary.intern("dictionaryTest"));
+        assertSame(tag, TagDictionary.get(tag.getId()));
+        assertEquals(tag.getId(), new Tag("dictionaryTest").getId());
+        assertNotEquals(tag.getId(), TagDictionary.intern("dictionaryTestOther").getId());
+    }
+
+    @Test
+    public void idsIgnoringCase_returnsEveryCaseVariant() {
+        int lower = TagDictionary.intern("casevariant").getId();
+        int upper = TagDictionary.intern("CASEVARIANT").getId();
+        assertArrayEquals(new int[] {lower, upper}, TagDictionary.idsIgnoringCase("CaseVariant"));
+        assertArrayEquals(new int[0], TagDictionary.idsIgnoringCase("neverInternedTagName"));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag friends = new Tag("friends");
+    private final Tag colleagues = new Tag("colleagues");
+    private final Tag family = new Tag("family");
+
+    @Test
+    public void of_duplicateTags_keepsOneOfEach() {
+        TagSet tags = TagSet.of(List.of(friends, colleagues, new Tag("friends")));
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(friends));
+        assertTrue(tags.contains(colleagues));
+        assertFalse(tags.contains(family));
+        assertFalse(tags.contains("friends"));
+        assertSame(TagSet.EMPTY, TagSet.of(List.of()));
+    }
+
+    @Test
+    public void iterator_returnsInternedTags() {
+        for (Tag tag : TagSet.of(Set.of(friends))) {
+            assertSame(TagDictionary.intern("friends"), tag);
+        }
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsHashSet() {
+        Set<Tag> hashSet = new HashSet<>(List.of(friends, family));
+        TagSet tagSet = TagSet.of(hashSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(List.of(family, friends)));
+        assertFalse(tagSet.equals(TagSet.of(List.of(family))));
+    }
+
+    @Test
+    public void containsAnyId() {
+        TagSet tags = TagSet.of(List.of(friends, colleagues));
+        int[] ids = {family.getId(), colleagues.getId()};
+        Arrays.sort(ids);
+        assertTrue(tags.containsAnyId(ids));
+        assertFalse(tags.containsAnyId(new int[] {family.getId()}));
+        assertFalse(tags.containsAnyId(new int[0]));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(family));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tags.retainAll(new ArrayList<>()));
+    }
+}
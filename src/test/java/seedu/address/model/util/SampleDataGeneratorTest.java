@@ -0,0 +1,27 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SampleDataGeneratorTest {
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> SampleDataGenerator.generatePersons(-1, 0));
+    }
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        assertEquals(SampleDataGenerator.generatePersons(50, 7), SampleDataGenerator.generatePersons(50, 7));
+        assertNotEquals(SampleDataGenerator.generatePersons(50, 7), SampleDataGenerator.generatePersons(50, 8));
+    }
+
+    @Test
+    public void generateAddressBook_manyPersons_noDuplicates() {
+        // Duplicate persons would be rejected by the address book
+        assertEquals(2000, SampleDataGenerator.generateAddressBook(2000, 1).getPersonList().size());
+    }
+}
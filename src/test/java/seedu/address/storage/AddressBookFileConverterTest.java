@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFileFormat;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path convertedBackFilePath = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        AddressBookFileConverter.convert(jsonFilePath, binaryFilePath);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        AddressBookFileConverter.convert(binaryFilePath, convertedBackFilePath);
+        assertEquals(original,
+                new AddressBook(new JsonAddressBookStorage(convertedBackFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                AddressBookFileConverter.convert(testFolder.resolve("missing.json"), testFolder.resolve("ab.bin")));
+    }
+
+    @Test
+    public void create_binaryExtensionOrPreference_binaryStorage() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("ab.json"));
+        assertTrue(AddressBookStorageFactory.create(userPrefs) instanceof JsonAddressBookStorage);
+
+        userPrefs.setJournaledAddressBookFile(true);
+        assertTrue(AddressBookStorageFactory.create(userPrefs) instanceof JournaledAddressBookStorage);
+
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+        assertTrue(AddressBookStorageFactory.create(userPrefs) instanceof BinaryAddressBookStorage);
+
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.JSON);
+        userPrefs.setAddressBookFilePath(testFolder.resolve("ab.bin"));
+        assertTrue(AddressBookStorageFactory.create(userPrefs) instanceof BinaryAddressBookStorage);
+    }
+}
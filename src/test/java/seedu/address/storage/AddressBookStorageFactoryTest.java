@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookFileFormat;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookStorageFactoryTest {
+
+    @Test
+    public void create_binaryFormat_binaryStorage() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+        assertTrue(AddressBookStorageFactory.create(userPrefs) instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void forFile_extension_matchingStorage() {
+        assertTrue(AddressBookStorageFactory.forFile(Paths.get("addressbook.bin")) instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookStorageFactory.forFile(Paths.get("addressbook.json")) instanceof JsonAddressBookStorage);
+    }
+
+}
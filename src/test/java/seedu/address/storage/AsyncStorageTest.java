@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<List<?>> writes = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch writerStarted = new CountDownLatch(1);
+    private final CountDownLatch writerReleased = new CountDownLatch(1);
+    private final List<String> reports = Collections.synchronizedList(new ArrayList<>());
+    private final SaveListener listener = new SaveListener() {
+        @Override
+        public void saved(long version, long writeNanos) {
+            reports.add("saved " + version);
+        }
+
+        @Override
+        public void saveFailed(long version, IOException e) {
+            reports.add("failed " + version + ": " + e.getMessage());
+        }
+    };
+    private volatile Exception failure = null;
+    private AsyncStorage asyncStorage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writerStarted.countDown();
+                awaitRelease();
+                if (failure instanceof IOException) {
+                    throw (IOException) failure;
+                }
+                if (failure != null) {
+                    throw (RuntimeException) failure;
+                }
+                writes.add(new ArrayList<>(addressBook.getPersonList()));
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        asyncStorage = new AsyncStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        writerReleased.countDown();
+        failure = null;
+        asyncStorage.close();
+    }
+
+    @Test
+    public void saveAddressBook_returnsBeforeWrite_flushWritesLatest() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        asyncStorage.saveAddressBook(addressBook);
+        assertTrue(writes.isEmpty());
+
+        writerReleased.countDown();
+        asyncStorage.flush();
+        assertEquals(1, writes.size());
+        assertEquals(addressBook, new AddressBook(asyncStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescesIntoLatest() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        asyncStorage.saveAddressBook(addressBook, 1, listener);
+        // The writer is busy with the first save while the others arrive
+        assertTrue(writerStarted.await(10, TimeUnit.SECONDS));
+        addressBook.addPerson(HOON);
+        asyncStorage.saveAddressBook(addressBook, 2, listener);
+        addressBook.addPerson(IDA);
+        asyncStorage.saveAddressBook(addressBook, 3, listener);
+
+        // Later changes do not leak into the queued snapshot
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+
+        writerReleased.countDown();
+        asyncStorage.flush();
+        assertEquals(2, writes.size());
+        assertEquals(expected.getPersonList(), writes.get(1));
+        assertEquals(List.of("saved 1", "saved 3"), reports);
+    }
+
+    @Test
+    public void saveAddressBook_failedWrite_reportsVersionAndFailure() throws Exception {
+        failure = new IOException("dummy IO exception");
+        writerReleased.countDown();
+
+        asyncStorage.saveAddressBook(getTypicalAddressBook(), 1, listener);
+        awaitWriter();
+        assertEquals(List.of("failed 1: dummy IO exception"), reports);
+
+        failure = null;
+        asyncStorage.saveAddressBook(getTypicalAddressBook(), 2, listener);
+        asyncStorage.flush();
+        assertEquals(1, writes.size());
+        assertEquals(List.of("failed 1: dummy IO exception", "saved 2"), reports);
+    }
+
+    @Test
+    public void saveAddressBook_uncheckedExceptionInWrite_reportedAndThrownByFlush() throws Exception {
+        failure = new IllegalStateException("dummy unchecked exception");
+        writerReleased.countDown();
+        String expectedMessage = AsyncStorage.MESSAGE_UNEXPECTED_WRITE_FAILURE + failure;
+
+        asyncStorage.saveAddressBook(getTypicalAddressBook(), 1, listener);
+        assertThrows(IOException.class, expectedMessage, () -> asyncStorage.flush());
+        assertEquals(List.of("failed 1: " + expectedMessage), reports);
+
+        // The writer thread survives and writes later saves
+        failure = null;
+        asyncStorage.saveAddressBook(getTypicalAddressBook(), 2, listener);
+        asyncStorage.flush();
+        assertEquals(1, writes.size());
+    }
+
+    @Test
+    public void saveAddressBook_callbackExecutor_reportsOnlyThroughExecutor() throws Exception {
+        List<Runnable> callbacks = Collections.synchronizedList(new ArrayList<>());
+        AsyncStorage reportingStorage = new AsyncStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("other")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))), callbacks::add);
+
+        reportingStorage.saveAddressBook(getTypicalAddressBook(), 7, listener);
+        reportingStorage.close();
+        assertTrue(reports.isEmpty());
+
+        assertEquals(1, callbacks.size());
+        callbacks.get(0).run();
+        assertEquals(List.of("saved 7"), reports);
+    }
+
+    @Test
+    public void flush_afterFailedWrite_throwsIoException() throws Exception {
+        failure = new IOException("dummy IO exception");
+        writerReleased.countDown();
+
+        asyncStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, () -> asyncStorage.flush());
+        // The failure is thrown only once
+        failure = null;
+        asyncStorage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> asyncStorage.saveAddressBook(null));
+        assertThrows(NullPointerException.class, () -> asyncStorage.saveAddressBook(null, 1, listener));
+    }
+
+    @Test
+    public void saveAddressBook_nullListener_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> asyncStorage.saveAddressBook(getTypicalAddressBook(), 1,
+                null));
+    }
+
+    /**
+     * Waits until the writer thread has finished the writes queued so far.
+     */
+    private void awaitWriter() throws Exception {
+        asyncStorage.readAddressBook();
+    }
+
+    private void awaitRelease() throws IOException {
+        try {
+            if (!writerReleased.await(10, TimeUnit.SECONDS)) {
+                throw new IOException("Writer was never released");
+            }
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Optional Fields").withPhone("999")
+                .withCompany("Acme").withNote("Likes tea").withPriority("HIGH").withTags("vip", "friends").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Note timestamps survive the round trip
+        Person withNote = original.getPersonList().get(original.getPersonList().size() - 2);
+        Person readWithNote = readBack.getPersonList().get(readBack.getPersonList().size() - 2);
+        assertEquals(withNote.getNote().getLastEdited(), readWithNote.getNote().getLastEdited());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIoException() {
+        byte[] bytes = encode(getTypicalAddressBook());
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) (BinaryAddressBookFormat.VERSION + 1));
+        assertThrows(IOException.class, String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.VERSION + 1), () -> decode(bytes));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() {
+        byte[] bytes = encode(getTypicalAddressBook());
+        assertThrows(IOException.class, () -> decode(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    public void read_countsBeyondFileSize_throwsIoException() throws Exception {
+        // header: int magic, short version, int dictionary size, int record count
+        byte[] hugeDictionary = encode(new AddressBook());
+        ByteBuffer.wrap(hugeDictionary).putInt(Integer.BYTES + Short.BYTES, Integer.MAX_VALUE);
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_CORRUPTED_FILE, () -> decode(hugeDictionary));
+
+        byte[] hugeRecordCount = encode(new AddressBook());
+        ByteBuffer.wrap(hugeRecordCount).putInt(2 * Integer.BYTES + Short.BYTES, Integer.MAX_VALUE);
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_CORRUPTED_FILE, () ->
+                decode(hugeRecordCount));
+
+        byte[] hugeName = encode(new AddressBookBuilder().withPerson(ALICE).build());
+        byte[] name = ALICE.getName().fullName.getBytes(StandardCharsets.UTF_8);
+        int nameStart = indexOf(hugeName, name);
+        ByteBuffer.wrap(hugeName).putInt(nameStart - Integer.BYTES, Integer.MAX_VALUE - 1);
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_CORRUPTED_FILE, () -> decode(hugeName));
+
+        // the same checks apply when reading from a file
+        Path filePath = testFolder.resolve("corrupted.bin");
+        Files.write(filePath, hugeRecordCount);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        // The format itself does not prevent duplicates, so write a list that contains one
+        byte[] bytes = encode(() -> FXCollections.observableArrayList(ALICE, new PersonBuilder(ALICE).build()));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                decode(bytes));
+    }
+
+    private static byte[] encode(ReadOnlyAddressBook addressBook) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryAddressBookFormat.write(addressBook, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int i = 0; i + part.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+
+    private static AddressBook decode(byte[] bytes) throws IOException, IllegalValueException {
+        return BinaryAddressBookFormat.read(new ByteArrayInputStream(bytes));
+    }
+}
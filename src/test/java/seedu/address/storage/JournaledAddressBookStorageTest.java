@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("ab.json"), false, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("ab.json"), false)
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(HOON, new PersonBuilder(HOON).withNote("Met at fair").build());
+        storage.saveAddressBook(original);
+
+        // Unchanged address book -> nothing written
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, false).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_reachesCheckpointInterval_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, 2);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sortedAddressBook_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.sortPersons(Comparator.comparing(person -> person.getPhone().value));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_interruptedCheckpoint_skipsIncludedEntries() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false, 1);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // The checkpoint includes the journaled entry; simulate a crash before the journal was deleted
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignoresEntryAndCheckpointsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String journal = FileUtil.readFromFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, journal.substring(0, journal.length() / 2));
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, false);
+        ReadOnlyAddressBook readBack = reopened.readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+
+        expected.addPerson(IDA);
+        reopened.saveAddressBook(expected);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String journal = FileUtil.readFromFile(journalFilePath);
+        Files.write(journalFilePath, ("{\"seq\n" + journal).getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournaledAddressBookStorage(filePath, false).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesFullFile() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+}
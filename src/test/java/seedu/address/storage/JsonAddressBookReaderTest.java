@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoPersons_returnsEmptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("noPersons.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1 }, \"tags\" : [ \"a\", \"b\" ] }");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_malformedFiles_throwsIoException() throws Exception {
+        Path emptyFile = testFolder.resolve("empty.json");
+        FileUtil.writeToFile(emptyFile, "");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(emptyFile));
+
+        Path notAnObjectFile = testFolder.resolve("notAnObject.json");
+        FileUtil.writeToFile(notAnObjectFile, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(notAnObjectFile));
+
+        Path nonObjectPersonFile = testFolder.resolve("nonObjectPerson.json");
+        FileUtil.writeToFile(nonObjectPersonFile, "{ \"persons\" : [ 1 ] }");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(nonObjectPersonFile));
+
+        Path truncatedFile = testFolder.resolve("truncated.json");
+        FileUtil.writeToFile(truncatedFile, "{ \"persons\" : [ ");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(truncatedFile));
+    }
+}
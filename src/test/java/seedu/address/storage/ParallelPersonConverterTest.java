@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataGenerator;
+
+public class ParallelPersonConverterTest {
+
+    private static final int SIZE = 8 * ParallelPersonConverter.CHUNK_SIZE + 3;
+
+    private final List<Person> persons = SampleDataGenerator.generatePersons(SIZE, 7);
+    private final List<JsonAdaptedPerson> adaptedPersons = persons.stream()
+            .map(JsonAdaptedPerson::new)
+            .collect(Collectors.toCollection(ArrayList::new));
+
+    @Test
+    public void convert_validPersons_keepsOrder() throws Exception {
+        assertEquals(persons, ParallelPersonConverter.convert(adaptedPersons));
+        assertEquals(persons.subList(0, 5), ParallelPersonConverter.convert(adaptedPersons.subList(0, 5)));
+        assertEquals(List.of(), ParallelPersonConverter.convert(List.of()));
+    }
+
+    @Test
+    public void convert_severalInvalidPersons_reportsFirst() {
+        adaptedPersons.set(SIZE - 1, withName("R@chel"));
+        adaptedPersons.set(5 * ParallelPersonConverter.CHUNK_SIZE, withName("R@chel"));
+        adaptedPersons.set(2 * ParallelPersonConverter.CHUNK_SIZE + 1, withPhone("+651234"));
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                    ParallelPersonConverter.convert(adaptedPersons));
+        }
+        adaptedPersons.set(2 * ParallelPersonConverter.CHUNK_SIZE + 1, withName("R@chel"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.convert(adaptedPersons));
+    }
+
+    private static JsonAdaptedPerson withName(String name) {
+        return new JsonAdaptedPerson(name, "98765432", null, null, null, List.of(), null, null, null);
+    }
+
+    private static JsonAdaptedPerson withPhone(String phone) {
+        return new JsonAdaptedPerson("Valid Name", phone, null, null, null, List.of(), null, null, null);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -117,6 +118,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Note} of the {@code Person} that we are building, last edited at {@code lastEdited}.
+     */
+    public PersonBuilder withNote(String note, LocalDateTime lastEdited) {
+        this.note = new Note(note, lastEdited);
+        return this;
+    }
+
     /**
      * Sets the {@code Priority} of the {@code Person} that we are building.
      */